@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The keys that differ between two versions of a configuration.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class ConfigDiff {
+    /**
+     * A diff without any changes.
+     */
+    public static final ConfigDiff EMPTY = new ConfigDiff(Set.of(), Set.of(), Set.of());
+
+    private final Set<String> added;
+    private final Set<String> removed;
+    private final Set<String> modified;
+
+    private ConfigDiff(Set<String> added, Set<String> removed, Set<String> modified) {
+        this.added = added;
+        this.removed = removed;
+        this.modified = modified;
+    }
+
+    /**
+     * Computes the keys that were added, removed or modified between two configuration maps.
+     *
+     * @param before The previous configuration.
+     * @param after  The new configuration.
+     * @return The differences between the two maps.
+     */
+    public static ConfigDiff between(Map<String, String> before, Map<String, String> after) {
+        if (before == after) {
+            return EMPTY;
+        }
+        Set<String> added = new HashSet<>();
+        Set<String> removed = new HashSet<>();
+        Set<String> modified = new HashSet<>();
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            String previous = before.get(entry.getKey());
+            if (previous == null && !before.containsKey(entry.getKey())) {
+                added.add(entry.getKey());
+            } else if (!Objects.equals(previous, entry.getValue())) {
+                modified.add(entry.getKey());
+            }
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+        if (added.isEmpty() && removed.isEmpty() && modified.isEmpty()) {
+            return EMPTY;
+        }
+        return new ConfigDiff(Collections.unmodifiableSet(added), Collections.unmodifiableSet(removed),
+                Collections.unmodifiableSet(modified));
+    }
+
+    /**
+     * Returns the keys present only in the new configuration.
+     *
+     * @return An unmodifiable set of added keys.
+     */
+    public Set<String> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the keys present only in the previous configuration.
+     *
+     * @return An unmodifiable set of removed keys.
+     */
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the keys present in both configurations with different values.
+     *
+     * @return An unmodifiable set of modified keys.
+     */
+    public Set<String> getModified() {
+        return modified;
+    }
+
+    /**
+     * Returns every key that was added, removed or modified.
+     *
+     * @return A new set of changed keys.
+     */
+    public Set<String> getChangedKeys() {
+        Set<String> keys = new HashSet<>(added);
+        keys.addAll(removed);
+        keys.addAll(modified);
+        return keys;
+    }
+
+    /**
+     * Checks whether the two configurations are identical.
+     *
+     * @return {@code true} if nothing changed.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigDiff{added=" + added + ", removed=" + removed + ", modified=" + modified + "}";
+    }
+}
@@ -23,9 +23,36 @@
  */
 package dev.revere.configmanager;
 
+import dev.revere.configmanager.binding.BoundConfig;
+import dev.revere.configmanager.binding.ConfigBinder;
+import dev.revere.configmanager.encryption.ConfigEncryptor;
+import dev.revere.configmanager.encryption.DecryptionCache;
+import dev.revere.configmanager.encryption.EncryptedValueResolver;
+import dev.revere.configmanager.event.ConfigChangeListener;
+import dev.revere.configmanager.event.ListenerRegistry;
+import dev.revere.configmanager.event.Subscription;
+import dev.revere.configmanager.metrics.ConfigMetrics;
+import dev.revere.configmanager.validation.ConfigValidationException;
+import dev.revere.configmanager.validation.ConfigValidator;
+import dev.revere.configmanager.validation.ValidationPlan;
+import dev.revere.configmanager.validation.Violation;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages configuration sources and provides access to configuration values.
@@ -34,12 +61,80 @@ import java.util.List;
  * and retrieving configuration values based on a key. It iterates through the sources in the order they were added
  * and returns the value from the first source that contains the specified key.</p>
  *
+ * <p>In {@link LookupMode#INDEXED} mode, {@link #loadConfig()} flattens every source into one immutable
+ * index that already resolves source priority, so a lookup is a single hash probe regardless of how many
+ * sources are registered.</p>
+ *
+ * <p>Values are served from an immutable {@link ConfigSnapshot} that is published atomically at the end of
+ * {@link #loadConfig()}. Readers take no locks and always observe a single consistent version, even while a
+ * reload is in progress.</p>
+ *
+ * <p>Once an encryptor is configured with {@link #setEncryptor(ConfigEncryptor)}, values wrapped as
+ * {@code ENC(...)} in any source are decrypted when the configuration is loaded and served from a bounded
+ * cache of plain text. Each published snapshot gets its own cache, which is also cleared when the key changes.</p>
+ *
+ * <p>With {@link #setInterpolation(boolean) interpolation} enabled, {@code ${key}} placeholders are resolved
+ * while a snapshot is built, and reads return the resolved values without scanning them.</p>
+ *
+ * <p>A validator registered with {@link #setValidator(ConfigValidator)} guards every published snapshot. On a
+ * reload, only the rules reading keys that changed in the reloaded sources are re-evaluated, and a
+ * configuration that fails validation is rejected with a {@link ConfigValidationException} while the previous
+ * snapshot stays in place.</p>
+ *
+ * <p>Components can {@link #subscribe(String, ConfigChangeListener) subscribe} to keys or namespaces instead of
+ * polling. After every successful reload they receive one batched event with the changes they are interested
+ * in, delivered asynchronously so that slow listeners never delay the reload or each other.</p>
+ *
  * @author Remi
  * @project java-config-system
  * @date 8/19/2024
  */
 public class ConfigManager {
-    private final List<ConfigSource> sources = new ArrayList<>();
+    private final List<ConfigSource> sources = new CopyOnWriteArrayList<>();
+    private final LookupMode lookupMode;
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
+    private EncryptedValueResolver secrets;
+    private ValidationPlan validationPlan;
+    private Set<String> unpublishedKeys;
+    private Interpolation interpolation;
+    private final ListenerRegistry listeners = new ListenerRegistry();
+    private final LookupStatistics statistics = new LookupStatistics();
+    private volatile ConfigMetrics metrics = ConfigMetrics.NOOP;
+    private final long createdNanos = System.nanoTime();
+    private final AtomicLong timeToFirstLookupNanos = new AtomicLong(-1);
+
+    /**
+     * Strategies used to resolve a key against the registered sources.
+     */
+    public enum LookupMode {
+        /**
+         * Queries each source in registration order on every lookup.
+         */
+        SEQUENTIAL,
+
+        /**
+         * Resolves every key once in {@link #loadConfig()} and serves lookups from a merged index.
+         * Falls back to sequential lookups while any source cannot enumerate its values, such as a
+         * {@link LazyConfigSource} that has not been loaded yet.
+         */
+        INDEXED
+    }
+
+    /**
+     * Constructs a {@code ConfigManager} that queries its sources sequentially.
+     */
+    public ConfigManager() {
+        this(LookupMode.SEQUENTIAL);
+    }
+
+    /**
+     * Constructs a {@code ConfigManager} with the specified lookup mode.
+     *
+     * @param lookupMode The strategy used to resolve keys.
+     */
+    public ConfigManager(LookupMode lookupMode) {
+        this.lookupMode = lookupMode;
+    }
 
     /**
      * Adds a configuration source to the manager.
@@ -47,10 +142,33 @@ public class ConfigManager {
      * <p>This method registers a new configuration source. The source will be used
      * when loading configurations and retrieving values.</p>
      *
+     * <p>The values of the new source become visible after the next call to {@link #loadConfig()}.</p>
+     *
      * @param source The {@link ConfigSource} to add.
      */
-    public void addSource(ConfigSource source) {
+    public synchronized void addSource(ConfigSource source) {
         sources.add(source);
+        unpublishedKeys = null;
+    }
+
+    /**
+     * Adds a configuration source at the specified position in the lookup order.
+     *
+     * <p>Sources earlier in the order take precedence, so position {@code 0} lets the source override every
+     * source added before it, as is usual for environment variables or system properties, while
+     * {@link #addSource(ConfigSource)} appends sources with the lowest precedence.</p>
+     *
+     * <p>The values of the new source become visible after the next call to {@link #loadConfig()}.</p>
+     *
+     * @param position The position to insert the source at, from {@code 0} to the number of sources.
+     * @param source   The {@link ConfigSource} to add.
+     * @throws IndexOutOfBoundsException If the position is out of range.
+     * @see dev.revere.configmanager.env.EnvironmentConfigSource
+     * @see dev.revere.configmanager.env.SystemPropertiesConfigSource
+     */
+    public synchronized void addSource(int position, ConfigSource source) {
+        sources.add(position, source);
+        unpublishedKeys = null;
     }
 
     /**
@@ -60,12 +178,356 @@ public class ConfigManager {
      * configuration data. It may throw an {@link IOException} if any of the sources cannot
      * be loaded.</p>
      *
+     * <p>Once every source has loaded, a new {@link ConfigSnapshot} is built and published. If a source fails,
+     * the previously published snapshot stays in place. Concurrent calls are serialized.</p>
+     *
      * @throws IOException If an error occurs while loading a source.
      */
-    public void loadConfig() throws IOException {
+    public synchronized void loadConfig() throws IOException {
+        List<Map<String, String>> before = captureValues(sources);
+        for (ConfigSource source : sources) {
+            load(source, false);
+        }
+        publish(changedKeys(sources, before));
+    }
+
+    /**
+     * Loads all registered sources concurrently, one virtual thread per source.
+     *
+     * @throws IOException If one or more sources fail to load.
+     * @see #loadConfigParallel(Executor)
+     */
+    public void loadConfigParallel() throws IOException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            loadConfigParallel(executor);
+        }
+    }
+
+    /**
+     * Loads all registered sources concurrently on the specified executor.
+     *
+     * <p>Startup time is bounded by the slowest source instead of the sum of all of them. Source priority is
+     * unaffected: once every source has finished loading, the snapshot is built in registration order exactly
+     * as in {@link #loadConfig()}.</p>
+     *
+     * <p>Every source is given the chance to load even if others fail. If any fail, an {@link IOException}
+     * is thrown that carries each failure as a suppressed exception, and the previously published snapshot
+     * stays in place.</p>
+     *
+     * @param executor The executor used to run the loads. It is not shut down by this method.
+     * @throws IOException If one or more sources fail to load.
+     */
+    public synchronized void loadConfigParallel(Executor executor) throws IOException {
+        List<Map<String, String>> before = captureValues(sources);
+        List<CompletableFuture<Void>> loads = new ArrayList<>(sources.size());
         for (ConfigSource source : sources) {
-            source.load();
+            loads.add(loadAsync(source, executor));
+        }
+        allOf(loads).exceptionally(failure -> null).join();
+
+        IOException failure = loadFailure(loads);
+        if (failure != null) {
+            throw failure;
         }
+        publish(changedKeys(sources, before));
+    }
+
+    /**
+     * Loads all registered sources asynchronously, one virtual thread per blocking source. The executor is shut
+     * down once the load completes.
+     *
+     * @return A future that completes with the published snapshot.
+     * @see #loadConfigAsync(Executor)
+     */
+    public CompletableFuture<ConfigSnapshot> loadConfigAsync() {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("config-load-", 0).factory());
+        return loadConfigAsync(executor).whenComplete((loaded, failure) -> executor.shutdown());
+    }
+
+    /**
+     * Loads all registered sources asynchronously without blocking the calling thread.
+     *
+     * <p>Every source is started through {@link ConfigSource#loadAsync(Executor)}, so their I/O overlaps and
+     * sources with asynchronous I/O, such as {@link dev.revere.configmanager.remote.RemoteConfigSource}, do not
+     * occupy a thread while they wait. Wrap a source in a {@link FallbackConfigSource} to bound how long it may
+     * take or to serve another source when it fails.</p>
+     *
+     * <p>Once every source has finished loading, the snapshot is built in registration order and published as in
+     * {@link #loadConfig()}. If any source fails, the future completes exceptionally with an {@link IOException}
+     * that carries each failure as a suppressed exception, and the previously published snapshot stays in
+     * place.</p>
+     *
+     * @param executor The executor used to run blocking loads and to publish the snapshot. It is not shut down by
+     *                 this method.
+     * @return A future that completes with the published snapshot.
+     */
+    public CompletableFuture<ConfigSnapshot> loadConfigAsync(Executor executor) {
+        List<ConfigSource> loading;
+        List<Map<String, String>> before;
+        long version;
+        synchronized (this) {
+            loading = List.copyOf(sources);
+            before = captureValues(loading);
+            version = snapshot.getVersion();
+        }
+        List<CompletableFuture<Void>> loads = new ArrayList<>(loading.size());
+        for (ConfigSource source : loading) {
+            loads.add(loadAsync(source, executor));
+        }
+        return allOf(loads).handleAsync((ignored, error) -> {
+            IOException failure = loadFailure(loads);
+            if (failure != null) {
+                throw new CompletionException(failure);
+            }
+            synchronized (this) {
+                // Another load may have published in the meantime, which the captured values do not reflect.
+                boolean unchanged = snapshot.getVersion() == version && sources.equals(loading);
+                try {
+                    publish(unchanged ? changedKeys(loading, before) : null);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+                return snapshot;
+            }
+        }, executor);
+    }
+
+    /**
+     * Loads every {@link LazyConfigSource} that has not been loaded yet in the background, one virtual thread per
+     * source. The executor is shut down once the warm-up completes.
+     *
+     * @return A future that completes once the sources have loaded and a new snapshot has been published.
+     * @see #warmUp(Executor)
+     */
+    public CompletableFuture<Void> warmUp() {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("config-warm-up-", 0).factory());
+        return warmUp(executor).whenComplete((ignored, failure) -> executor.shutdown());
+    }
+
+    /**
+     * Loads every {@link LazyConfigSource} that has not been loaded yet in the background on the specified
+     * executor.
+     *
+     * <p>Call this after {@link #loadConfig()} so that a service can report itself ready before its secondary
+     * sources are parsed. Once the sources have loaded, a new snapshot is published so that their values are
+     * captured and, in {@link LookupMode#INDEXED} mode, merged into the index. The new snapshot is published
+     * even if some sources fail. In that case the future completes exceptionally with the first failure.</p>
+     *
+     * @param executor The executor used to run the loads. It is not shut down by this method.
+     * @return A future that completes once the sources have loaded and a new snapshot has been published.
+     */
+    public CompletableFuture<Void> warmUp(Executor executor) {
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (ConfigSource source : sources) {
+            if (source instanceof LazyConfigSource lazy && !lazy.isLoaded()) {
+                loads.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        load(lazy, true);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor));
+            }
+        }
+        if (loads.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return allOf(loads).handleAsync((ignored, failure) -> {
+            try {
+                republish();
+            } catch (IOException e) {
+                if (failure == null) {
+                    throw new UncheckedIOException(e);
+                }
+                failure.addSuppressed(e);
+            }
+            if (failure != null) {
+                throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+            }
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Enables transparent decryption of {@code ENC(...)} values using the specified encryptor, caching up to
+     * 1024 decrypted values.
+     *
+     * @param encryptor The encryptor holding the decryption key.
+     * @throws IOException If a loaded value cannot be decrypted with the new key.
+     * @see #setEncryptor(ConfigEncryptor, int)
+     */
+    public void setEncryptor(ConfigEncryptor encryptor) throws IOException {
+        setEncryptor(encryptor, 1024);
+    }
+
+    /**
+     * Enables transparent decryption of {@code ENC(...)} values using the specified encryptor.
+     *
+     * <p>Calling this again with a new encryptor rotates the key: the cached plain text of the previous key
+     * is cleared and, if a configuration has already been loaded, it is republished. If a loaded value cannot be
+     * decrypted with the new key, the previous encryptor and snapshot stay in place.</p>
+     *
+     * @param encryptor    The encryptor holding the decryption key.
+     * @param maxCacheSize The maximum number of decrypted values to keep in memory.
+     * @throws IOException If a loaded value cannot be decrypted with the new key.
+     */
+    public synchronized void setEncryptor(ConfigEncryptor encryptor, int maxCacheSize) throws IOException {
+        EncryptedValueResolver previous = secrets;
+        secrets = new EncryptedValueResolver(encryptor, new DecryptionCache(maxCacheSize), metrics);
+        try {
+            republish();
+        } catch (IOException e) {
+            secrets = previous;
+            throw e;
+        }
+        if (previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * Enables or disables resolution of {@code ${key}} placeholders, such as {@code ${db.host}:${db.port}}.
+     *
+     * <p>A placeholder is replaced by the value of the referenced key, which may be templated itself. A default
+     * can follow the first colon, as in {@code ${db.port:5432}}, and <code>$${</code> produces a literal
+     * <code>${</code>. Every templated value is parsed once, and a snapshot that contains a cycle or a
+     * reference to a missing key without a default is rejected with an {@link IOException}. On a reload, only
+     * the changed templates and the templates that depend on changed keys are resolved again.</p>
+     *
+     * <p>Referenced values are substituted as stored, so an encrypted value should only be referenced by a
+     * placeholder that makes up the whole value. If a configuration has already been loaded, it is
+     * republished; if it cannot be interpolated, the setting is left unchanged.</p>
+     *
+     * @param enabled {@code true} to resolve placeholders.
+     * @throws IOException If the current configuration cannot be interpolated.
+     */
+    public synchronized void setInterpolation(boolean enabled) throws IOException {
+        Interpolation previous = interpolation;
+        interpolation = enabled ? new Interpolation() : null;
+        try {
+            republish();
+        } catch (IOException e) {
+            interpolation = previous;
+            throw e;
+        }
+    }
+
+    /**
+     * Reloads a single registered source and publishes a new snapshot.
+     *
+     * <p>Only the given source is re-read; the other sources contribute their already loaded values.
+     * A source that is registered inside a {@link LazyConfigSource} or {@link FallbackConfigSource} is reloaded
+     * through the registered wrapper. If the source fails to load, the previously published snapshot stays in
+     * place.</p>
+     *
+     * @param source The source to reload.
+     * @throws IOException              If an error occurs while loading the source.
+     * @throws IllegalArgumentException If the source is not registered with this manager.
+     */
+    public synchronized void reloadSource(ConfigSource source) throws IOException {
+        ConfigSource registered = registered(source);
+        List<Map<String, String>> before = captureValues(List.of(registered));
+        load(registered, false);
+        publish(changedKeys(List.of(registered), before));
+    }
+
+    /**
+     * Finds the registered source that is or wraps the specified source.
+     */
+    private ConfigSource registered(ConfigSource source) {
+        if (sources.contains(source)) {
+            return source;
+        }
+        for (ConfigSource registered : sources) {
+            if (wraps(registered, source)) {
+                return registered;
+            }
+        }
+        throw new IllegalArgumentException("Source is not registered with this manager: " + source);
+    }
+
+    private static boolean wraps(ConfigSource wrapper, ConfigSource source) {
+        if (wrapper == source) {
+            return true;
+        }
+        if (wrapper instanceof LazyConfigSource lazy) {
+            return wraps(lazy.getDelegate(), source);
+        }
+        if (wrapper instanceof FallbackConfigSource fallback) {
+            return wraps(fallback.getPrimary(), source)
+                    || (fallback.getFallback() != null && wraps(fallback.getFallback(), source));
+        }
+        return false;
+    }
+
+    /**
+     * Registers a validator that every published snapshot must satisfy, or removes it when {@code null}.
+     *
+     * <p>If a configuration has already been loaded, it is validated in full first; if it is invalid, the
+     * validator is not registered. After that, each reload re-evaluates only the rules that read keys changed
+     * by the reloaded sources, including cross-field rules. Sources that cannot enumerate their values, or
+     * that update their values in place, are validated in full.</p>
+     *
+     * @param validator The validator, or {@code null} to disable validation.
+     * @throws ConfigValidationException If the current configuration does not satisfy the validator.
+     */
+    public synchronized void setValidator(ConfigValidator validator) throws ConfigValidationException {
+        if (validator == null) {
+            validationPlan = null;
+            return;
+        }
+        ValidationPlan plan = validator.getPlan();
+        if (snapshot.getVersion() > 0) {
+            long start = System.nanoTime();
+            List<Violation> violations = plan.validate(snapshot::peekValue);
+            metrics.recordValidation(violations.size(), System.nanoTime() - start);
+            if (!violations.isEmpty()) {
+                throw new ConfigValidationException(violations);
+            }
+        }
+        validationPlan = plan;
+    }
+
+    /**
+     * Subscribes a listener to changes of a single key.
+     *
+     * <p>After each successful load or reload that changes the key, the listener receives one event on the
+     * listener executor. Values are reported as stored, so encrypted values appear in their {@code ENC(...)}
+     * form.</p>
+     *
+     * @param key      The key to watch.
+     * @param listener The listener to notify.
+     * @return The subscription, which can be closed to unsubscribe.
+     */
+    public Subscription subscribe(String key, ConfigChangeListener listener) {
+        return listeners.subscribe(key, listener);
+    }
+
+    /**
+     * Subscribes a listener to changes of every key in a namespace, such as {@code cache.redis}.
+     *
+     * <p>All changes to the namespace caused by one reload are delivered as a single event. Changes made by
+     * sources that cannot enumerate their values are not detected.</p>
+     *
+     * @param prefix   The namespace to watch. The empty string matches every key.
+     * @param listener The listener to notify.
+     * @return The subscription, which can be closed to unsubscribe.
+     * @see ListenerRegistry
+     */
+    public Subscription subscribePrefix(String prefix, ConfigChangeListener listener) {
+        return listeners.subscribePrefix(prefix, listener);
+    }
+
+    /**
+     * Sets the executor that change listeners are notified on. By default, each notification runs on its own
+     * virtual thread.
+     *
+     * @param executor The executor.
+     */
+    public void setListenerExecutor(Executor executor) {
+        listeners.setExecutor(executor);
     }
 
     /**
@@ -75,16 +537,442 @@ public class ConfigManager {
      * It returns the value from the first source that contains the key. If the key does not exist
      * in any of the sources, it returns {@code null}.</p>
      *
+     * <p>Each call reads the current snapshot. Callers that need several values from the same version
+     * should use {@link #getSnapshot()} instead.</p>
+     *
      * @param key The key to search for.
      * @return The value associated with the key, or {@code null} if the key does not exist.
      */
     public String getValue(String key) {
-        for (ConfigSource source : sources) {
-            String value = source.getValue(key);
-            if (value != null) {
-                return value;
+        return current().getValue(key);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as an {@code int}.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid integer.
+     * @see ConfigSnapshot#getInt(String, int)
+     */
+    public int getInt(String key, int defaultValue) {
+        return current().getInt(key, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@code long}.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid long.
+     * @see ConfigSnapshot#getLong(String, long)
+     */
+    public long getLong(String key, long defaultValue) {
+        return current().getLong(key, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@code double}.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid double.
+     * @see ConfigSnapshot#getDouble(String, double)
+     */
+    public double getDouble(String key, double defaultValue) {
+        return current().getDouble(key, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@code boolean}.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is neither {@code true} nor {@code false}.
+     * @see ConfigSnapshot#getBoolean(String, boolean)
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return current().getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@link Duration}.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid duration.
+     * @see ConfigSnapshot#getDuration(String, Duration)
+     */
+    public Duration getDuration(String key, Duration defaultValue) {
+        return current().getDuration(key, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a number of bytes.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid byte size.
+     * @see ConfigSnapshot#getByteSize(String, long)
+     */
+    public long getByteSize(String key, long defaultValue) {
+        return current().getByteSize(key, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as an enum constant.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param type         The enum type.
+     * @param defaultValue The value to return if the key does not exist.
+     * @param <E>          The enum type.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value does not name a constant of {@code type}.
+     */
+    public <E extends Enum<E>> E getEnum(String key, Class<E> type, E defaultValue) {
+        return current().getEnum(key, type, defaultValue);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a comma-separated list.
+     *
+     * <p>The converted value is cached in the current snapshot until the next reload.</p>
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return An immutable list of the elements, or {@code defaultValue} if the key does not exist.
+     */
+    public List<String> getList(String key, List<String> defaultValue) {
+        return current().getList(key, defaultValue);
+    }
+
+    /**
+     * Returns a view of one namespace of the configuration, such as {@code cache.redis}.
+     *
+     * <p>The view copies nothing and always reads the current snapshot, so it follows reloads. Enumerating its
+     * keys costs time proportional to the number of keys in the namespace.</p>
+     *
+     * @param namespace The namespace.
+     * @return The scoped view.
+     * @see ScopedConfig
+     */
+    public ScopedConfig scope(String namespace) {
+        return new ScopedConfig(this::getSnapshot, namespace);
+    }
+
+    /**
+     * Binds a namespace of the configuration onto a record or class, such as {@code db.pool} onto a
+     * {@code PoolSettings} record, and rebinds it whenever a reload changes one of its keys.
+     *
+     * @param namespace The namespace to bind, or the empty string for the root.
+     * @param type      The record or class to bind onto.
+     * @param <T>       The bound type.
+     * @return The binding, which can be closed to stop following reloads.
+     * @throws IllegalArgumentException If the type cannot be bound or a value cannot be converted.
+     * @see ConfigBinder
+     */
+    public <T> BoundConfig<T> bind(String namespace, Class<T> type) {
+        return BoundConfig.bind(this, namespace, type);
+    }
+
+    /**
+     * Returns the currently published configuration snapshot.
+     *
+     * @return The current snapshot.
+     */
+    public ConfigSnapshot getSnapshot() {
+        return current();
+    }
+
+    /**
+     * Installs the instrumentation that lookups, source loads, decryptions, validations and publications are
+     * reported to, or restores the no-op default when {@code null}.
+     *
+     * <p>The current snapshot is republished with the new metrics without being rebuilt. Lazy sources that
+     * load on first access are not reported; see {@link LazyConfigSource#getLoadDuration()}.</p>
+     *
+     * @param metrics The metrics, or {@code null} to disable instrumentation.
+     * @see dev.revere.configmanager.metrics.CounterMetrics
+     * @see dev.revere.configmanager.metrics.JfrConfigMetrics
+     */
+    public synchronized void setMetrics(ConfigMetrics metrics) {
+        this.metrics = metrics != null ? metrics : ConfigMetrics.NOOP;
+        if (secrets != null) {
+            secrets = secrets.withMetrics(this.metrics);
+        }
+        snapshot = snapshot.withMetrics(this.metrics, secrets);
+    }
+
+    /**
+     * Returns the hit and miss counters of lookups served by this manager.
+     *
+     * <p>Every {@code getValue} call is counted, as is every typed lookup whose converted value is not cached
+     * yet.</p>
+     *
+     * @return The lookup statistics.
+     */
+    public LookupStatistics getLookupStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the time between constructing this manager and the first lookup of a configuration value.
+     *
+     * <p>Together with {@link LazyConfigSource}, this shows how much sooner a service can start serving
+     * configuration when secondary sources are parsed on demand or in the background.</p>
+     *
+     * @return The time to the first lookup, or {@code null} if no value has been looked up yet.
+     */
+    public Duration getTimeToFirstLookup() {
+        long nanos = timeToFirstLookupNanos.get();
+        return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Returns the registered sources in priority order.
+     *
+     * @return An unmodifiable view of the registered sources.
+     */
+    public List<ConfigSource> getSources() {
+        return Collections.unmodifiableList(sources);
+    }
+
+    /**
+     * Returns the lookup mode of this manager.
+     *
+     * @return The lookup mode.
+     */
+    public LookupMode getLookupMode() {
+        return lookupMode;
+    }
+
+    /**
+     * Loads a source and reports the load to the metrics. Lazy sources are only forced to load when warming up.
+     */
+    private void load(ConfigSource source, boolean warmUp) throws IOException {
+        long start = System.nanoTime();
+        try {
+            if (warmUp && source instanceof LazyConfigSource lazy) {
+                lazy.ensureLoaded();
+            } else {
+                source.load();
             }
+        } catch (IOException | RuntimeException e) {
+            metrics.recordLoad(source, System.nanoTime() - start, e);
+            throw e;
+        }
+        metrics.recordLoad(source, System.nanoTime() - start, null);
+    }
+
+    /**
+     * Starts loading a source asynchronously and reports the load to the metrics once it completes.
+     */
+    private CompletableFuture<Void> loadAsync(ConfigSource source, Executor executor) {
+        long start = System.nanoTime();
+        CompletableFuture<Void> load;
+        try {
+            load = source.loadAsync(executor);
+        } catch (RuntimeException e) {
+            load = CompletableFuture.failedFuture(e);
+        }
+        return load.whenComplete((ignored, failure) -> metrics.recordLoad(source, System.nanoTime() - start,
+                failure == null ? null : FallbackConfigSource.unwrap(failure)));
+    }
+
+    /**
+     * Collects the failures of completed loads.
+     *
+     * @return An exception carrying each failure as a suppressed exception, or {@code null} if none failed.
+     */
+    private static IOException loadFailure(List<CompletableFuture<Void>> loads) {
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<Void> load : loads) {
+            if (load.isCompletedExceptionally()) {
+                failures.add(FallbackConfigSource.unwrap(load.exceptionNow()));
+            }
+        }
+        if (failures.isEmpty()) {
+            return null;
+        }
+        IOException exception = new IOException(
+                "Failed to load " + failures.size() + " of " + loads.size() + " configuration sources");
+        failures.forEach(exception::addSuppressed);
+        return exception;
+    }
+
+    /**
+     * Returns the current snapshot, recording the time to the first lookup on the first call.
+     */
+    private ConfigSnapshot current() {
+        if (timeToFirstLookupNanos.get() < 0) {
+            timeToFirstLookupNanos.compareAndSet(-1, System.nanoTime() - createdNanos);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Publishes a new snapshot after lazy sources have loaded, if the configuration has been loaded before.
+     */
+    private synchronized void republish() throws IOException {
+        if (snapshot.getVersion() > 0) {
+            publish(null);
+        }
+    }
+
+    /**
+     * Builds a snapshot from the current state of every source and publishes it.
+     *
+     * <p>Keys changed by a reload whose snapshot was rejected remain pending and are validated again together
+     * with the next change set, since the rejected values are still held by their sources. Once published,
+     * the pending keys are compared between the two snapshots to notify change listeners.</p>
+     *
+     * @param changedKeys The keys changed since the last load, or {@code null} if unknown.
+     * @throws IOException If the new snapshot cannot be interpolated, an encrypted value in it cannot be
+     *                     decrypted, or it fails validation.
+     */
+    private void publish(Set<String> changedKeys) throws IOException {
+        long start = System.nanoTime();
+        ValidationPlan plan = validationPlan;
+        Set<String> pending = union(unpublishedKeys, changedKeys);
+        unpublishedKeys = pending;
+
+        long version = snapshot.getVersion() + 1;
+        // The new snapshot decrypts into its own cache, so a rejected snapshot leaves the live cache untouched.
+        EncryptedValueResolver resolver = secrets != null ? secrets.withEmptyCache() : null;
+        ConfigSnapshot next = lookupMode == LookupMode.INDEXED
+                ? ConfigSnapshot.indexed(version, sources, resolver, statistics, metrics)
+                : ConfigSnapshot.sequential(version, sources, resolver, statistics, metrics);
+        if (interpolation != null) {
+            Set<String> affected;
+            try {
+                affected = next.resolvePlaceholders(interpolation, pending);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Failed to interpolate configuration", e);
+            }
+            next = next.withResolved(interpolation.getResolved());
+            pending = union(pending, affected);
+        }
+        if (resolver != null) {
+            try {
+                next.preloadSecrets();
+            } catch (Exception e) {
+                throw new IOException("Failed to decrypt configuration value", e);
+            }
+        }
+        if (plan != null) {
+            long validationStart = System.nanoTime();
+            List<Violation> violations = pending == null
+                    ? plan.validate(next::peekValue)
+                    : plan.validateChanged(pending, next::peekValue);
+            metrics.recordValidation(violations.size(), System.nanoTime() - validationStart);
+            if (!violations.isEmpty()) {
+                throw new ConfigValidationException(violations);
+            }
+        }
+        ConfigSnapshot previous = snapshot;
+        snapshot = next;
+        secrets = resolver;
+        unpublishedKeys = Set.of();
+        metrics.recordPublish(version, System.nanoTime() - start);
+
+        if (!listeners.isEmpty()) {
+            if (pending != null) {
+                listeners.dispatch(previous::getRawValue, next::getRawValue, pending, true);
+            } else {
+                Set<String> keys = new HashSet<>(previous.keySet());
+                keys.addAll(next.keySet());
+                listeners.dispatch(previous::getRawValue, next::getRawValue, keys,
+                        previous.isEnumerable() && next.isEnumerable());
+            }
+        }
+    }
+
+    /**
+     * Captures the current values of the specified sources so changes can be detected after they reload.
+     *
+     * @return The values of each source, or {@code null} if neither a validator, a listener nor interpolation
+     * needs the change set.
+     */
+    private List<Map<String, String>> captureValues(List<ConfigSource> reloaded) {
+        if (validationPlan == null && listeners.isEmpty() && interpolation == null) {
+            return null;
+        }
+        List<Map<String, String>> values = new ArrayList<>(reloaded.size());
+        for (ConfigSource source : reloaded) {
+            values.add(valuesOf(source));
+        }
+        return values;
+    }
+
+    /**
+     * Computes the keys changed by reloading the specified sources.
+     *
+     * @return The changed keys, or {@code null} if they cannot be determined.
+     */
+    private static Set<String> changedKeys(List<ConfigSource> reloaded, List<Map<String, String>> before) {
+        if (before == null || before.size() != reloaded.size()) {
+            return null;
+        }
+        Set<String> changed = new HashSet<>();
+        for (int i = 0; i < before.size(); i++) {
+            Map<String, String> previous = before.get(i);
+            Map<String, String> current = valuesOf(reloaded.get(i));
+            if (previous == null || current == null || (previous == current && !previous.isEmpty())) {
+                // Values that cannot be enumerated or that were updated in place cannot be diffed.
+                return null;
+            }
+            ConfigDiff diff = ConfigDiff.between(previous, current);
+            changed.addAll(diff.getAdded());
+            changed.addAll(diff.getRemoved());
+            changed.addAll(diff.getModified());
+        }
+        return changed;
+    }
+
+    private static Map<String, String> valuesOf(ConfigSource source) {
+        try {
+            return source.getValues();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a future that completes once all of the specified futures have completed.
+     */
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new));
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        if (first == null || second == null) {
+            return null;
+        }
+        if (first.isEmpty()) {
+            return second;
         }
-        return null;
+        Set<String> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
     }
 }
\ No newline at end of file
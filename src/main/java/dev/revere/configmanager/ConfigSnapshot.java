@@ -0,0 +1,648 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import dev.revere.configmanager.binding.ConfigBinder;
+import dev.revere.configmanager.encryption.EncryptedValueResolver;
+import dev.revere.configmanager.metrics.ConfigMetrics;
+import dev.revere.configmanager.util.ValueParserUtil;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, consistent view of the configuration published by a {@link ConfigManager}.
+ *
+ * <p>A snapshot is built off to the side while sources are loaded and then published atomically. All lookups
+ * made against the same snapshot observe the same version of every source, even while a reload is running.</p>
+ *
+ * <p>The typed accessors convert a value the first time it is read and cache the result for the lifetime of
+ * the snapshot, so repeated reads neither parse nor box. A reload publishes a new snapshot with an empty cache.
+ * Missing keys return the supplied default, while values that cannot be converted throw an
+ * {@link IllegalArgumentException}.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class ConfigSnapshot {
+    static final ConfigSnapshot EMPTY = new ConfigSnapshot(0, Map.of(), null, null, null, null, null, null, null);
+
+    private final long version;
+    private final Map<String, String> index;
+    private final Map<String, ConfigSource> origins;
+    private final ConfigSource[] sources;
+    private final Map<String, String>[] captured;
+    private final KeyFilter filter;
+    private final EncryptedValueResolver secrets;
+    private final LookupStatistics statistics;
+    private final ConfigMetrics metrics;
+    private final TypedValueCache typedValues = new TypedValueCache();
+    private volatile KeyIndex keyIndex;
+
+    private ConfigSnapshot(long version, Map<String, String> index, Map<String, ConfigSource> origins,
+                           ConfigSource[] sources, Map<String, String>[] captured, KeyFilter filter,
+                           EncryptedValueResolver secrets, LookupStatistics statistics, ConfigMetrics metrics) {
+        this.version = version;
+        this.index = index;
+        this.origins = origins;
+        this.sources = sources;
+        this.captured = captured;
+        this.filter = filter;
+        this.secrets = secrets;
+        this.statistics = statistics;
+        this.metrics = metrics == ConfigMetrics.NOOP ? null : metrics;
+    }
+
+    /**
+     * Creates a snapshot that merges the values of all sources into a single index.
+     *
+     * <p>If any source cannot enumerate its values, the snapshot queries the sources sequentially instead. With
+     * several sources, the source that serves each key is recorded alongside the index so that lookups can be
+     * attributed to it.</p>
+     *
+     * @param version The version number of the snapshot.
+     * @param sources The sources, in priority order.
+     * @param secrets    The resolver for encrypted values, or {@code null} to return them as stored.
+     * @param statistics The counters that lookups are recorded in, or {@code null}.
+     * @param metrics    The metrics that lookups are reported to.
+     * @return The indexed snapshot.
+     */
+    static ConfigSnapshot indexed(long version, List<ConfigSource> sources, EncryptedValueResolver secrets,
+                                  LookupStatistics statistics, ConfigMetrics metrics) {
+        Map<String, String> merged = new HashMap<>();
+        Map<String, ConfigSource> servedBy = sources.size() > 1 ? new HashMap<>() : null;
+        for (int i = sources.size() - 1; i >= 0; i--) {
+            Map<String, String> values;
+            try {
+                values = sources.get(i).getValues();
+            } catch (UnsupportedOperationException e) {
+                // A source that cannot be merged, such as a lazy source that has not been loaded yet.
+                return sequential(version, sources, secrets, statistics, metrics);
+            }
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                if (entry.getValue() != null) {
+                    merged.put(entry.getKey(), entry.getValue());
+                    if (servedBy != null) {
+                        servedBy.put(entry.getKey(), sources.get(i));
+                    }
+                }
+            }
+        }
+        return new ConfigSnapshot(version, Map.copyOf(merged), servedBy != null ? Map.copyOf(servedBy) : null,
+                sources.toArray(new ConfigSource[0]), null, null, secrets, statistics, metrics);
+    }
+
+    /**
+     * Creates a snapshot that queries each source in order.
+     *
+     * <p>The current values of enumerable sources are captured so the snapshot does not change when the
+     * sources are reloaded. Sources that cannot enumerate their values are queried directly.</p>
+     *
+     * <p>When there are several sources and all of them are captured, a {@link KeyFilter} over their keys is
+     * built so that lookups of absent keys return without probing every source.</p>
+     *
+     * @param version    The version number of the snapshot.
+     * @param sources    The sources, in priority order.
+     * @param secrets    The resolver for encrypted values, or {@code null} to return them as stored.
+     * @param statistics The counters that lookups are recorded in, or {@code null}.
+     * @param metrics    The metrics that lookups are reported to.
+     * @return The sequential snapshot.
+     */
+    static ConfigSnapshot sequential(long version, List<ConfigSource> sources, EncryptedValueResolver secrets,
+                                     LookupStatistics statistics, ConfigMetrics metrics) {
+        ConfigSource[] layers = sources.toArray(new ConfigSource[0]);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Map<String, String>[] captured = new Map[layers.length];
+        for (int i = 0; i < layers.length; i++) {
+            try {
+                captured[i] = layers[i].getValues();
+            } catch (UnsupportedOperationException e) {
+                // Queried directly on every lookup.
+            }
+        }
+        boolean filterable = layers.length > 1;
+        for (Map<String, String> values : captured) {
+            filterable &= values != null;
+        }
+        KeyFilter filter = filterable ? KeyFilter.of(captured) : null;
+        return new ConfigSnapshot(version, null, null, layers, captured, filter, secrets, statistics, metrics);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key.
+     *
+     * <p>Values wrapped as {@code ENC(...)} are returned decrypted when the manager has an encryptor
+     * configured.</p>
+     *
+     * @param key The key to search for.
+     * @return The value associated with the key, or {@code null} if the key does not exist.
+     * @throws IllegalStateException If an encrypted value cannot be decrypted.
+     */
+    public String getValue(String key) {
+        String value = lookup(key, statistics, metrics);
+        if (value != null && secrets != null) {
+            return secrets.resolve(value);
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key exactly as stored, without decrypting it.
+     * Placeholders are resolved if the manager has interpolation enabled.
+     *
+     * @param key The key to search for.
+     * @return The stored value, or {@code null} if the key does not exist.
+     */
+    public String getRawValue(String key) {
+        return lookup(key, null, null);
+    }
+
+    /**
+     * Retrieves a value like {@link #getValue(String)} without recording the lookup, for reads made by the
+     * manager itself, such as validation.
+     */
+    String peekValue(String key) {
+        String value = lookup(key, null, null);
+        if (value != null && secrets != null) {
+            return secrets.resolve(value);
+        }
+        return value;
+    }
+
+    /**
+     * Creates a copy of this snapshot that reports lookups to different metrics.
+     *
+     * @param metrics The metrics that lookups are reported to.
+     * @param secrets The resolver for encrypted values, or {@code null} to return them as stored.
+     * @return The copy.
+     */
+    ConfigSnapshot withMetrics(ConfigMetrics metrics, EncryptedValueResolver secrets) {
+        return new ConfigSnapshot(version, index, origins, sources, captured, filter, secrets, statistics, metrics);
+    }
+
+    /**
+     * Resolves the {@code ${key}} placeholders of this snapshot and returns a copy that serves the resolved
+     * values.
+     *
+     * <p>Resolved values replace the templates in the index or in the captured values of the source the key is
+     * served from, so lookups cost the same as without interpolation. Templates held by sources that cannot
+     * enumerate their values are returned as stored.</p>
+     *
+     * @param interpolation The interpolation of the previous snapshot, which is updated in place.
+     * @param changedKeys   The keys whose stored values changed since the previous snapshot, or {@code null} if
+     *                      unknown.
+     * @return The keys whose templates were resolved again.
+     * @throws IllegalArgumentException If a placeholder is malformed, unresolved or part of a cycle.
+     */
+    Set<String> resolvePlaceholders(Interpolation interpolation, Set<String> changedKeys) {
+        return interpolation.update(keySet(), this::getRawValue, changedKeys);
+    }
+
+    /**
+     * Creates a copy of this snapshot that serves the resolved values of an interpolation.
+     *
+     * @param resolved The resolved value of every templated key.
+     * @return The copy.
+     */
+    @SuppressWarnings("unchecked")
+    ConfigSnapshot withResolved(Map<String, String> resolved) {
+        if (resolved.isEmpty()) {
+            return this;
+        }
+        if (index != null) {
+            Map<String, String> merged = new HashMap<>(index);
+            merged.putAll(resolved);
+            return new ConfigSnapshot(version, Map.copyOf(merged), origins, sources, null, null, secrets, statistics,
+                    metrics);
+        }
+        Map<String, String>[] layers = captured.clone();
+        boolean[] copied = new boolean[layers.length];
+        for (Map.Entry<String, String> entry : resolved.entrySet()) {
+            String key = entry.getKey();
+            for (int i = 0; i < layers.length; i++) {
+                if (layers[i] == null ? sources[i].getValue(key) != null : layers[i].containsKey(key)) {
+                    if (layers[i] != null) {
+                        if (!copied[i]) {
+                            layers[i] = new HashMap<>(layers[i]);
+                            copied[i] = true;
+                        }
+                        layers[i].put(key, entry.getValue());
+                    }
+                    break;
+                }
+            }
+        }
+        return new ConfigSnapshot(version, null, null, sources, layers, filter, secrets, statistics, metrics);
+    }
+
+    private String lookup(String key, LookupStatistics statistics, ConfigMetrics metrics) {
+        String value = null;
+        ConfigSource servedBy = null;
+        if (index != null) {
+            value = index.get(key);
+            if (metrics != null && value != null) {
+                servedBy = origins != null ? origins.get(key) : sources[0];
+            }
+        } else if (filter != null && !filter.mightContain(key)) {
+            if (statistics != null) {
+                statistics.recordFilteredMiss();
+            }
+            if (metrics != null) {
+                metrics.recordLookup(key, null, false);
+            }
+            return null;
+        } else {
+            for (int i = 0; i < sources.length && value == null; i++) {
+                Map<String, String> values = captured[i];
+                value = values != null ? values.get(key) : sources[i].getValue(key);
+                servedBy = sources[i];
+            }
+        }
+        if (metrics != null) {
+            metrics.recordLookup(key, value != null ? servedBy : null, value != null);
+        }
+        if (statistics != null) {
+            if (value != null) {
+                statistics.recordHit();
+            } else {
+                statistics.recordMiss();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as an {@code int}.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid integer.
+     */
+    public int getInt(String key, int defaultValue) {
+        TypedValueCache.IntValue cached = typedValues.ints.get(key);
+        if (cached != null) {
+            return cached.value();
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.ints.put(key, new TypedValueCache.IntValue(parsed));
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@code long}.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid long.
+     */
+    public long getLong(String key, long defaultValue) {
+        TypedValueCache.LongValue cached = typedValues.longs.get(key);
+        if (cached != null) {
+            return cached.value();
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        long parsed;
+        try {
+            parsed = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.longs.put(key, new TypedValueCache.LongValue(parsed));
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@code double}.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid double.
+     */
+    public double getDouble(String key, double defaultValue) {
+        TypedValueCache.DoubleValue cached = typedValues.doubles.get(key);
+        if (cached != null) {
+            return cached.value();
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.doubles.put(key, new TypedValueCache.DoubleValue(parsed));
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@code boolean}.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is neither {@code true} nor {@code false}.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        TypedValueCache.BooleanValue cached = typedValues.booleans.get(key);
+        if (cached != null) {
+            return cached.value();
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        boolean parsed;
+        try {
+            parsed = ValueParserUtil.parseBoolean(value);
+        } catch (IllegalArgumentException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.booleans.put(key, TypedValueCache.BooleanValue.of(parsed));
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a {@link Duration}.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid duration.
+     * @see ValueParserUtil#parseDuration(String)
+     */
+    public Duration getDuration(String key, Duration defaultValue) {
+        Duration cached = typedValues.durations.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        Duration parsed;
+        try {
+            parsed = ValueParserUtil.parseDuration(value);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.durations.put(key, parsed);
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a number of bytes.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid byte size.
+     * @see ValueParserUtil#parseByteSize(String)
+     */
+    public long getByteSize(String key, long defaultValue) {
+        TypedValueCache.LongValue cached = typedValues.byteSizes.get(key);
+        if (cached != null) {
+            return cached.value();
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        long parsed;
+        try {
+            parsed = ValueParserUtil.parseByteSize(value);
+        } catch (IllegalArgumentException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.byteSizes.put(key, new TypedValueCache.LongValue(parsed));
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as an enum constant.
+     *
+     * @param key          The key to search for.
+     * @param type         The enum type.
+     * @param defaultValue The value to return if the key does not exist.
+     * @param <E>          The enum type.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value does not name a constant of {@code type}.
+     */
+    public <E extends Enum<E>> E getEnum(String key, Class<E> type, E defaultValue) {
+        Enum<?> cached = typedValues.enums.get(key);
+        if (type.isInstance(cached)) {
+            return type.cast(cached);
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        E parsed;
+        try {
+            parsed = ValueParserUtil.parseEnum(type, value);
+        } catch (IllegalArgumentException e) {
+            throw invalidValue(key, value, e);
+        }
+        typedValues.enums.put(key, parsed);
+        return parsed;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key as a comma-separated list.
+     *
+     * @param key          The key to search for.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return An immutable list of the elements, or {@code defaultValue} if the key does not exist.
+     * @see ValueParserUtil#parseList(String)
+     */
+    public List<String> getList(String key, List<String> defaultValue) {
+        List<String> cached = typedValues.lists.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String value = getValue(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        List<String> parsed = ValueParserUtil.parseList(value);
+        typedValues.lists.put(key, parsed);
+        return parsed;
+    }
+
+    /**
+     * Returns the version of this snapshot. Each published snapshot has a higher version than its predecessor.
+     *
+     * @return The snapshot version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static IllegalArgumentException invalidValue(String key, String value, RuntimeException cause) {
+        return new IllegalArgumentException("Invalid value for key '" + key + "': " + value, cause);
+    }
+
+    /**
+     * Returns the keys starting with the specified prefix, in sorted order.
+     *
+     * <p>The first call builds a sorted index of the snapshot's keys, which is then reused by every prefix
+     * query on this snapshot, so each query costs {@code O(log n + matches)}. Keys held by sources that cannot
+     * enumerate their values are not included.</p>
+     *
+     * @param prefix The prefix to match, such as {@code cache.redis.}. The empty string matches every key.
+     * @return An unmodifiable view of the matching keys.
+     */
+    public List<String> getKeys(String prefix) {
+        return getKeyIndex().withPrefix(prefix);
+    }
+
+    /**
+     * Returns a view of one namespace of this snapshot.
+     *
+     * @param namespace The namespace, such as {@code cache.redis}.
+     * @return A view bound to this snapshot.
+     * @see ScopedConfig
+     */
+    public ScopedConfig scope(String namespace) {
+        return new ScopedConfig(() -> this, namespace);
+    }
+
+    /**
+     * Binds one namespace of this snapshot onto a new instance of a record or class.
+     *
+     * @param namespace The namespace to bind, or the empty string for the root.
+     * @param type      The record or class to bind onto.
+     * @param <T>       The bound type.
+     * @return The bound instance.
+     * @throws IllegalArgumentException If the type cannot be bound or a value cannot be converted.
+     * @see ConfigBinder
+     */
+    public <T> T bind(String namespace, Class<T> type) {
+        return ConfigBinder.of(type).bind(this::getValue, namespace);
+    }
+
+    /**
+     * Returns the sorted key index of this snapshot, building it on first use.
+     *
+     * @return The key index.
+     */
+    KeyIndex getKeyIndex() {
+        KeyIndex index = keyIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = keyIndex;
+                if (index == null) {
+                    index = KeyIndex.of(keySet());
+                    keyIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns every key the snapshot can enumerate. Keys held by sources that cannot enumerate their values
+     * are not included.
+     *
+     * @return The keys of the snapshot.
+     */
+    Set<String> keySet() {
+        if (index != null) {
+            return index.keySet();
+        }
+        Set<String> keys = new HashSet<>();
+        for (Map<String, String> values : captured) {
+            if (values != null) {
+                keys.addAll(values.keySet());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Checks whether {@link #keySet()} contains every key of the snapshot.
+     *
+     * @return {@code true} if every source could enumerate its values.
+     */
+    boolean isEnumerable() {
+        if (index != null) {
+            return true;
+        }
+        for (Map<String, String> values : captured) {
+            if (values == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decrypts every encrypted value the snapshot can enumerate, so later reads are served from the cache
+     * and an undecryptable value is detected before the snapshot is published.
+     *
+     * @throws Exception If a value cannot be decrypted.
+     */
+    void preloadSecrets() throws Exception {
+        if (secrets == null) {
+            return;
+        }
+        if (index != null) {
+            for (String value : index.values()) {
+                secrets.preload(value);
+            }
+            return;
+        }
+        for (Map<String, String> values : captured) {
+            if (values != null) {
+                for (String value : values.values()) {
+                    if (value != null) {
+                        secrets.preload(value);
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
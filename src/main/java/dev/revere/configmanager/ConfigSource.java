@@ -24,6 +24,9 @@
 package dev.revere.configmanager;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Interface for a configuration source.
@@ -48,6 +51,30 @@ public interface ConfigSource {
      */
     void load() throws IOException;
 
+    /**
+     * Loads the configuration source data without blocking the calling thread.
+     *
+     * <p>The default implementation runs {@link #load()} on the specified executor, which adapts every blocking
+     * source, including the file-based ones. Sources that can perform their I/O asynchronously should override
+     * this method so that no thread waits for it. A failure completes the returned future exceptionally with the
+     * original exception, such as the {@link IOException} thrown by {@link #load()}.</p>
+     *
+     * @param executor The executor on which blocking work is performed.
+     * @return A future that completes once the source has loaded.
+     */
+    default CompletableFuture<Void> loadAsync(Executor executor) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                load();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     /**
      * Retrieves the value associated with the specified key from the source.
      *
@@ -58,4 +85,19 @@ public interface ConfigSource {
      * @return The value associated with the key, or {@code null} if the key does not exist.
      */
     String getValue(String key);
+
+    /**
+     * Returns every key/value pair currently loaded by the source.
+     *
+     * <p>Enumerable sources allow {@link ConfigManager} to precompute a merged lookup index instead of
+     * querying each source on every lookup. The returned map must not be modified by the caller.
+     * Sources that cannot enumerate their keys may keep this default, which throws
+     * {@link UnsupportedOperationException}.</p>
+     *
+     * @return An unmodifiable view of the loaded configuration.
+     * @throws UnsupportedOperationException If the source cannot enumerate its keys.
+     */
+    default Map<String, String> getValues() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support enumerating its values");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ConfigSource} that bounds how long a source may take to load and falls back to another source when it
+ * fails.
+ *
+ * <p>The primary source is loaded through {@link ConfigSource#loadAsync(Executor)}. If it fails or does not finish
+ * within the timeout, the fallback source is loaded and served instead, and the failure is available from
+ * {@link #getLastFailure()}. The next successful load of the primary source switches back to it. Without a
+ * fallback, the failure is reported to the caller.</p>
+ *
+ * <p>A timed-out load is not cancelled if the primary source performs it synchronously; it keeps running in the
+ * background, and its result is only served after a later load of this source succeeds.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class FallbackConfigSource implements ConfigSource {
+    // load() is usually called while the manager's monitor is held, which pins a virtual caller to its carrier;
+    // loading on a platform thread keeps it from waiting on a virtual thread that has no carrier left to run on.
+    private static final Executor LOAD_EXECUTOR = task -> Thread.ofPlatform().daemon().name("config-load").start(task);
+
+    private final ConfigSource primary;
+    private final ConfigSource fallback;
+    private volatile ConfigSource active;
+    private volatile long timeoutNanos = -1;
+    private volatile Throwable lastFailure;
+
+    /**
+     * Constructs a {@code FallbackConfigSource} that serves the specified fallback while the primary source cannot
+     * be loaded.
+     *
+     * @param primary  The source to load.
+     * @param fallback The source to serve when the primary source fails, or {@code null} to report the failure.
+     */
+    public FallbackConfigSource(ConfigSource primary, ConfigSource fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+        this.active = primary;
+    }
+
+    /**
+     * Loads the primary source, or the fallback source if it fails, on a separate thread and waits for the result.
+     *
+     * @throws IOException If the primary source fails and there is no fallback, or the fallback fails as well.
+     */
+    @Override
+    public void load() throws IOException {
+        try {
+            loadAsync(LOAD_EXECUTOR).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + primary, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Failed to load " + primary, cause);
+        }
+    }
+
+    /**
+     * Loads the primary source, or the fallback source if the primary source fails or times out.
+     *
+     * @param executor The executor on which blocking work is performed.
+     * @return A future that completes once either source has loaded.
+     */
+    @Override
+    public CompletableFuture<Void> loadAsync(Executor executor) {
+        CompletableFuture<Void> load = start(primary, executor);
+        long timeout = timeoutNanos;
+        if (timeout >= 0) {
+            load = load.orTimeout(timeout, TimeUnit.NANOSECONDS);
+        }
+        return load.handle((ignored, failure) -> {
+            if (failure == null) {
+                active = primary;
+                lastFailure = null;
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            Throwable cause = unwrap(failure);
+            lastFailure = cause;
+            if (fallback == null) {
+                return CompletableFuture.<Void>failedFuture(cause);
+            }
+            return start(fallback, executor).handle((fallbackIgnored, fallbackFailure) -> {
+                if (fallbackFailure != null) {
+                    cause.addSuppressed(unwrap(fallbackFailure));
+                    throw new CompletionException(cause);
+                }
+                active = fallback;
+                return (Void) null;
+            });
+        }).thenCompose(next -> next);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the source being served.
+     *
+     * @param key The key to search for.
+     * @return The value associated with the key, or {@code null} if the key does not exist.
+     */
+    @Override
+    public String getValue(String key) {
+        return active.getValue(key);
+    }
+
+    /**
+     * Returns all key/value pairs of the source being served.
+     *
+     * @return The values of the source being served.
+     * @throws UnsupportedOperationException If that source cannot enumerate its keys.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        return active.getValues();
+    }
+
+    /**
+     * Sets how long the primary source may take to load before the fallback is used. By default, there is no
+     * timeout.
+     *
+     * @param timeout The timeout, or {@code null} to wait indefinitely.
+     */
+    public void setTimeout(Duration timeout) {
+        this.timeoutNanos = timeout == null ? -1 : timeout.toNanos();
+    }
+
+    /**
+     * Returns whether the fallback source is being served because the primary source failed to load.
+     *
+     * @return {@code true} if the fallback source is being served.
+     */
+    public boolean isUsingFallback() {
+        return active != primary;
+    }
+
+    /**
+     * Returns why the primary source failed to load most recently.
+     *
+     * @return The failure, or {@code null} if the last load of the primary source succeeded.
+     */
+    public Throwable getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Returns the source loaded first.
+     *
+     * @return The primary source.
+     */
+    public ConfigSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * Returns the source served while the primary source cannot be loaded.
+     *
+     * @return The fallback source, or {@code null} if there is none.
+     */
+    public ConfigSource getFallback() {
+        return fallback;
+    }
+
+    private static CompletableFuture<Void> start(ConfigSource source, Executor executor) {
+        try {
+            return source.loadAsync(executor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
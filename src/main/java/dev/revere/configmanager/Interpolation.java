@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The resolved placeholders of a configuration, together with the dependency graph needed to update them.
+ *
+ * <p>Every templated value is parsed once into a {@link Template}. The graph maps each referenced key to the
+ * templated keys that read it, so that after a reload only the changed templates and the templates downstream
+ * of a changed key are rendered again; every other resolved value is kept. Cycles are detected while rendering
+ * and reported with the keys involved.</p>
+ *
+ * <p>An interpolation is updated in place and is not thread-safe; it is confined to the {@link ConfigManager}
+ * that owns it. An update that fails may leave it partially updated, which the next update repairs as long as
+ * its changed keys include the failed update's changed keys.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class Interpolation {
+    private final Map<String, Template> templates = new HashMap<>();
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final Map<String, String> resolved = new HashMap<>();
+
+    /**
+     * Resolves the placeholders of a new version of the configuration.
+     *
+     * @param keys        Every key whose value may be templated.
+     * @param raw         Returns the stored value of a key, or {@code null} if it does not exist.
+     * @param changedKeys The keys whose stored values changed since the last update, or {@code null} to resolve
+     *                    every template from scratch.
+     * @return The templated keys that were rendered again.
+     * @throws IllegalArgumentException If a placeholder is malformed, unresolved or part of a cycle.
+     */
+    Set<String> update(Set<String> keys, Function<String, String> raw, Set<String> changedKeys) {
+        Set<String> dirty;
+        if (changedKeys == null) {
+            templates.clear();
+            dependents.clear();
+            resolved.clear();
+            for (String key : keys) {
+                update(key, raw);
+            }
+            dirty = templates.keySet();
+        } else {
+            for (String key : changedKeys) {
+                update(key, raw);
+            }
+            dirty = downstream(changedKeys);
+            for (String key : dirty) {
+                resolved.remove(key);
+            }
+        }
+
+        Renderer renderer = new Renderer(templates, raw, resolved, new LinkedHashSet<>());
+        Set<String> affected = new HashSet<>();
+        for (String key : dirty) {
+            if (templates.containsKey(key)) {
+                renderer.render(key);
+                affected.add(key);
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Returns the resolved value of every templated key.
+     *
+     * @return An unmodifiable view of the resolved values.
+     */
+    Map<String, String> getResolved() {
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    /**
+     * Re-parses the value of a key and updates the edges of the dependency graph.
+     */
+    private void update(String key, Function<String, String> raw) {
+        String value = raw.apply(key);
+        Template template;
+        try {
+            template = value != null ? Template.parse(value) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + " in key '" + key + "'", e);
+        }
+        Template old = template != null ? templates.put(key, template) : templates.remove(key);
+        if (old != null) {
+            for (String reference : old.getReferences()) {
+                Set<String> readers = dependents.get(reference);
+                readers.remove(key);
+                if (readers.isEmpty()) {
+                    dependents.remove(reference);
+                }
+            }
+            resolved.remove(key);
+        }
+        if (template != null) {
+            for (String reference : template.getReferences()) {
+                dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Collects the changed keys and every key that transitively reads one of them.
+     */
+    private Set<String> downstream(Set<String> changedKeys) {
+        Set<String> result = new HashSet<>(changedKeys);
+        Deque<String> queue = new ArrayDeque<>(changedKeys);
+        while (!queue.isEmpty()) {
+            Set<String> readers = dependents.get(queue.poll());
+            if (readers != null) {
+                for (String reader : readers) {
+                    if (result.add(reader)) {
+                        queue.add(reader);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Renders templates depth-first, memoizing results and tracking the current path to report cycles.
+     */
+    private record Renderer(Map<String, Template> templates, Function<String, String> raw,
+                            Map<String, String> resolved, LinkedHashSet<String> path) {
+
+        String render(String key) {
+            String value = resolved.get(key);
+            if (value != null) {
+                return value;
+            }
+            Template template = templates.get(key);
+            if (template == null) {
+                return raw.apply(key);
+            }
+            if (!path.add(key)) {
+                List<String> cycle = new ArrayList<>(path);
+                cycle = cycle.subList(cycle.indexOf(key), cycle.size());
+                throw new ResolutionException("Circular placeholder reference: "
+                        + String.join(" -> ", cycle) + " -> " + key, null);
+            }
+            try {
+                value = template.render(this::render);
+            } catch (ResolutionException e) {
+                throw e;
+            } catch (IllegalArgumentException e) {
+                throw new ResolutionException(e.getMessage() + " in key '" + key + "'", e);
+            } finally {
+                path.remove(key);
+            }
+            resolved.put(key, value);
+            return value;
+        }
+    }
+
+    /**
+     * A resolution failure that already names the key it occurred in.
+     */
+    private static final class ResolutionException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        ResolutionException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.util.Map;
+
+/**
+ * A Bloom filter over the keys of a snapshot that rejects most lookups of absent keys without probing any
+ * source.
+ *
+ * <p>The filter is blocked: all bits for a key live in one 64-bit word, so a query costs one memory access and
+ * reuses the key's cached {@link String#hashCode()}. With at least 16 bits per key and four bits set per key,
+ * fewer than one in a hundred absent keys pass the filter. It never rejects a key that was added.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class KeyFilter {
+    private final long[] words;
+    private final int mask;
+
+    private KeyFilter(int expectedKeys) {
+        // At least 16 bits per key: one 64-bit word per four keys, rounded up to a power of two.
+        int minimumWords = Math.max(1, (expectedKeys + 3) / 4);
+        int wordCount = minimumWords == 1 ? 1 : Integer.highestOneBit(minimumWords - 1) << 1;
+        this.words = new long[wordCount];
+        this.mask = wordCount - 1;
+    }
+
+    /**
+     * Builds a filter over the keys of the specified maps.
+     *
+     * @param maps The maps whose keys are added to the filter.
+     * @return The filter.
+     */
+    @SafeVarargs
+    static KeyFilter of(Map<String, String>... maps) {
+        int expectedKeys = 0;
+        for (Map<String, String> map : maps) {
+            expectedKeys += map.size();
+        }
+        KeyFilter filter = new KeyFilter(expectedKeys);
+        for (Map<String, String> map : maps) {
+            for (String key : map.keySet()) {
+                filter.add(key);
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Returns whether the key may have been added. A result of {@code false} is definite.
+     *
+     * @param key The key to test.
+     * @return {@code false} if the key was certainly not added.
+     */
+    boolean mightContain(String key) {
+        int hash = key.hashCode();
+        long bits = bits(hash);
+        return (words[index(hash)] & bits) == bits;
+    }
+
+    /**
+     * Returns the number of bits in the filter.
+     */
+    long bitSize() {
+        return (long) words.length * Long.SIZE;
+    }
+
+    private void add(String key) {
+        int hash = key.hashCode();
+        words[index(hash)] |= bits(hash);
+    }
+
+    private int index(int hash) {
+        int mixed = hash * 0x85EBCA6B;
+        return (mixed ^ (mixed >>> 15)) & mask;
+    }
+
+    /**
+     * Selects four bits of the word from independent 6-bit slices of a second hash.
+     */
+    private static long bits(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return 1L << (mixed >>> 26) | 1L << (mixed >>> 20) | 1L << (mixed >>> 14) | 1L << (mixed >>> 8);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A sorted index of configuration keys that answers prefix queries in {@code O(log n + matches)}.
+ *
+ * <p>Keys sharing a prefix are contiguous in sorted order, so a prefix scan is two binary searches followed by
+ * a view over the matching slice of the array. Nothing is copied.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class KeyIndex {
+    private final String[] keys;
+
+    private KeyIndex(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Builds an index of the specified keys.
+     *
+     * @param keys The keys to index.
+     * @return The index.
+     */
+    static KeyIndex of(Collection<String> keys) {
+        String[] sorted = keys.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return new KeyIndex(sorted);
+    }
+
+    /**
+     * Returns the keys starting with the specified prefix, in sorted order.
+     *
+     * @param prefix The prefix to match. The empty string matches every key.
+     * @return An unmodifiable view of the matching keys.
+     */
+    List<String> withPrefix(String prefix) {
+        int from = lowerBound(prefix);
+        int to = from;
+        int high = keys.length;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                to = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return new Slice(keys, from, to, 0);
+    }
+
+    /**
+     * Returns the keys inside the specified namespace relative to it, in sorted order of the full keys.
+     *
+     * <p>A namespace ends at a {@code .} or a {@code [}, so {@code servers} holds both {@code servers.port},
+     * listed as {@code port}, and {@code servers[0].host}, listed as {@code [0].host}. The two kinds of keys
+     * are separate slices of the array, which are concatenated without copying.</p>
+     *
+     * @param namespace The namespace. The empty string holds every key.
+     * @return An unmodifiable view of the matching keys, relative to the namespace.
+     */
+    List<String> inNamespace(String namespace) {
+        if (namespace.isEmpty()) {
+            return withPrefix("");
+        }
+        Slice members = (Slice) withPrefix(namespace + ".");
+        Slice elements = (Slice) withPrefix(namespace + "[");
+        Slice relativeMembers = new Slice(keys, members.from, members.to, namespace.length() + 1);
+        Slice relativeElements = new Slice(keys, elements.from, elements.to, namespace.length());
+        if (relativeElements.isEmpty()) {
+            return relativeMembers;
+        }
+        return relativeMembers.isEmpty() ? relativeElements : new Concatenation(relativeMembers, relativeElements);
+    }
+
+    /**
+     * Returns the number of indexed keys.
+     *
+     * @return The key count.
+     */
+    int size() {
+        return keys.length;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Slice extends AbstractList<String> implements RandomAccess {
+        private final String[] keys;
+        private final int from;
+        private final int to;
+        private final int strip;
+
+        Slice(String[] keys, int from, int to, int strip) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.strip = strip;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            String key = keys[from + index];
+            return strip == 0 ? key : key.substring(strip);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private static final class Concatenation extends AbstractList<String> implements RandomAccess {
+        private final Slice first;
+        private final Slice second;
+
+        Concatenation(Slice first, Slice second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public String get(int index) {
+            int split = first.size();
+            return index < split ? first.get(index) : second.get(index - split);
+        }
+
+        @Override
+        public int size() {
+            return first.size() + second.size();
+        }
+    }
+}
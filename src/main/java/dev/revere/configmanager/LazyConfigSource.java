@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@code ConfigSource} decorator that defers loading its delegate until a value is first requested.
+ *
+ * <p>Registering large, rarely read sources through this class lets {@link ConfigManager#loadConfig()} return
+ * without parsing them. The delegate is loaded by the first lookup that reaches it, or ahead of time by
+ * {@link ConfigManager#warmUp()}. Loading is single-flight: concurrent first readers wait for one load instead
+ * of each starting their own. If that load fails, the readers receive an {@link UncheckedIOException} and the
+ * next lookup tries again.</p>
+ *
+ * <p>Until the delegate has been loaded, {@link #getValues()} throws {@link UnsupportedOperationException}, so
+ * snapshots query this source directly rather than forcing it to load. Once loaded, calls to {@link #load()}
+ * reload the delegate eagerly, as they would for any other source.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class LazyConfigSource implements ConfigSource {
+    private final ConfigSource delegate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean loaded;
+    private volatile long loadNanos = -1;
+
+    /**
+     * Constructs a {@code LazyConfigSource} that defers loading the specified source.
+     *
+     * @param delegate The source to load on first access.
+     */
+    public LazyConfigSource(ConfigSource delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Reloads the delegate if it has already been loaded. Otherwise, loading stays deferred until first access.
+     *
+     * @throws IOException If an error occurs while reloading the delegate.
+     */
+    @Override
+    public void load() throws IOException {
+        if (loaded) {
+            lock.lock();
+            try {
+                loadDelegate();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Loads the delegate now if it has not been loaded yet.
+     *
+     * @throws IOException If an error occurs while loading the delegate.
+     */
+    public void ensureLoaded() throws IOException {
+        if (loaded) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!loaded) {
+                loadDelegate();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the specified key, loading the delegate first if necessary.
+     *
+     * @param key The key to search for.
+     * @return The value associated with the key, or {@code null} if the key does not exist.
+     * @throws UncheckedIOException If the delegate could not be loaded.
+     */
+    @Override
+    public String getValue(String key) {
+        if (!loaded) {
+            try {
+                ensureLoaded();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load configuration source " + delegate, e);
+            }
+        }
+        return delegate.getValue(key);
+    }
+
+    /**
+     * Returns all key/value pairs of the delegate once it has been loaded.
+     *
+     * @return The values of the delegate.
+     * @throws UnsupportedOperationException If the delegate has not been loaded yet or cannot enumerate its keys.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        if (!loaded) {
+            throw new UnsupportedOperationException("Configuration source has not been loaded yet: " + delegate);
+        }
+        return delegate.getValues();
+    }
+
+    /**
+     * Returns whether the delegate has been loaded.
+     *
+     * @return {@code true} if the delegate has been loaded.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returns how long the most recent load of the delegate took.
+     *
+     * @return The load duration, or {@code null} if the delegate has not been loaded yet.
+     */
+    public Duration getLoadDuration() {
+        long nanos = loadNanos;
+        return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Returns the source whose loading is deferred.
+     *
+     * @return The delegate.
+     */
+    public ConfigSource getDelegate() {
+        return delegate;
+    }
+
+    private void loadDelegate() throws IOException {
+        long start = System.nanoTime();
+        delegate.load();
+        loadNanos = System.nanoTime() - start;
+        loaded = true;
+    }
+}
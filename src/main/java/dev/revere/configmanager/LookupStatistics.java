@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the lookups served by a {@link ConfigManager}.
+ *
+ * <p>Misses are split into those rejected by the snapshot's key filter without probing any source, and those
+ * that had to probe every source before returning {@code null}. The counters are striped, so recording a
+ * lookup does not contend between reader threads.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class LookupStatistics {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder filteredMisses = new LongAdder();
+
+    /**
+     * Returns the number of lookups that found a value.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no value, including filtered misses.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum() + filteredMisses.sum();
+    }
+
+    /**
+     * Returns the number of misses rejected by the key filter without probing any source.
+     *
+     * @return The filtered miss count.
+     */
+    public long getFilteredMisses() {
+        return filteredMisses.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that found a value.
+     *
+     * @return The hit ratio between {@code 0} and {@code 1}, or {@code 0} if no lookup has been made.
+     */
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Resets every counter to zero.
+     */
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        filteredMisses.reset();
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordFilteredMiss() {
+        filteredMisses.increment();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A view of the configuration restricted to one namespace, such as {@code cache.redis}.
+ *
+ * <p>Keys are relative to the namespace: {@code getValue("host")} on a view of {@code cache.redis} reads
+ * {@code cache.redis.host}. The view copies nothing; it reads through to a snapshot. Views obtained from
+ * {@link ConfigManager#scope(String)} always read the manager's current snapshot, while views obtained from
+ * {@link ConfigSnapshot#scope(String)} stay bound to that snapshot.</p>
+ *
+ * <p>As for {@link ConfigManager#subscribePrefix}, a namespace ends at a {@code .} or a {@code [}, so a view of
+ * {@code servers} reads {@code servers[0].host} as {@code [0].host}.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class ScopedConfig {
+    private final Supplier<ConfigSnapshot> snapshots;
+    private final String namespace;
+    private final String prefix;
+
+    ScopedConfig(Supplier<ConfigSnapshot> snapshots, String namespace) {
+        this.snapshots = snapshots;
+        this.namespace = normalize(namespace);
+        this.prefix = this.namespace.isEmpty() ? "" : this.namespace + ".";
+    }
+
+    /**
+     * Returns the full key of a key relative to this namespace. Array elements such as {@code [0].host} follow
+     * the namespace directly, other keys after a {@code .}.
+     */
+    private String qualify(String key) {
+        return key.startsWith("[") ? namespace + key : prefix + key;
+    }
+
+    /**
+     * Returns the namespace of this view.
+     *
+     * @return The namespace, without a trailing {@code .}.
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns a view of a nested namespace.
+     *
+     * @param child The namespace relative to this view, such as {@code pool}.
+     * @return The nested view.
+     */
+    public ScopedConfig scope(String child) {
+        return new ScopedConfig(snapshots, qualify(normalize(child)));
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace.
+     *
+     * @param key The relative key.
+     * @return The value, or {@code null} if the key does not exist.
+     */
+    public String getValue(String key) {
+        return snapshots.get().getValue(qualify(key));
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as an {@code int}.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid integer.
+     */
+    public int getInt(String key, int defaultValue) {
+        return snapshots.get().getInt(qualify(key), defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as a {@code long}.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid long.
+     */
+    public long getLong(String key, long defaultValue) {
+        return snapshots.get().getLong(qualify(key), defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as a {@code double}.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid double.
+     */
+    public double getDouble(String key, double defaultValue) {
+        return snapshots.get().getDouble(qualify(key), defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as a {@code boolean}.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is neither {@code true} nor {@code false}.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return snapshots.get().getBoolean(qualify(key), defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as a {@link Duration}.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid duration.
+     */
+    public Duration getDuration(String key, Duration defaultValue) {
+        return snapshots.get().getDuration(qualify(key), defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as a number of bytes.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value is not a valid byte size.
+     */
+    public long getByteSize(String key, long defaultValue) {
+        return snapshots.get().getByteSize(qualify(key), defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as an enum constant.
+     *
+     * @param key          The relative key.
+     * @param type         The enum type.
+     * @param defaultValue The value to return if the key does not exist.
+     * @param <E>          The enum type.
+     * @return The converted value, or {@code defaultValue} if the key does not exist.
+     * @throws IllegalArgumentException If the value does not name a constant of {@code type}.
+     */
+    public <E extends Enum<E>> E getEnum(String key, Class<E> type, E defaultValue) {
+        return snapshots.get().getEnum(qualify(key), type, defaultValue);
+    }
+
+    /**
+     * Retrieves the value of a key relative to this namespace as a comma-separated list.
+     *
+     * @param key          The relative key.
+     * @param defaultValue The value to return if the key does not exist.
+     * @return An immutable list of the elements, or {@code defaultValue} if the key does not exist.
+     */
+    public List<String> getList(String key, List<String> defaultValue) {
+        return snapshots.get().getList(qualify(key), defaultValue);
+    }
+
+    /**
+     * Returns every key in this namespace, relative to it, in sorted order.
+     *
+     * <p>The keys are read from the current snapshot's key index in time proportional to the number of
+     * matches. Keys held by sources that cannot enumerate their values are not included.</p>
+     *
+     * @return An unmodifiable view of the relative keys.
+     */
+    public List<String> getKeys() {
+        return snapshots.get().getKeyIndex().inNamespace(namespace);
+    }
+
+    /**
+     * Copies every key and value in this namespace into a new map, from a single snapshot.
+     *
+     * @return A map of relative keys to values, in sorted key order.
+     */
+    public Map<String, String> toMap() {
+        ConfigSnapshot snapshot = snapshots.get();
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String key : snapshot.getKeyIndex().inNamespace(namespace)) {
+            values.put(key, snapshot.getValue(qualify(key)));
+        }
+        return values;
+    }
+
+    private static String normalize(String namespace) {
+        return namespace.endsWith(".") ? namespace.substring(0, namespace.length() - 1) : namespace;
+    }
+}
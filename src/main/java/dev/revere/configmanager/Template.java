@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A configuration value containing {@code ${key}} placeholders, parsed once into literal text and references.
+ *
+ * <p>A placeholder may supply a default after the first colon, as in {@code ${db.port:5432}}, which is used
+ * when the referenced key does not exist. Defaults may contain placeholders themselves, and
+ * <code>$${</code> produces a literal <code>${</code>.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class Template {
+    private final Object[] parts;
+    private final Set<String> references;
+
+    private Template(Object[] parts, Set<String> references) {
+        this.parts = parts;
+        this.references = references;
+    }
+
+    /**
+     * Parses a value into a template.
+     *
+     * @param value The value to parse.
+     * @return The template, or {@code null} if the value contains neither placeholders nor escapes.
+     * @throws IllegalArgumentException If a placeholder is not terminated or names no key.
+     */
+    static Template parse(String value) {
+        if (!value.contains("${")) {
+            return null;
+        }
+        List<Object> parts = new ArrayList<>();
+        Set<String> references = new LinkedHashSet<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < value.length()) {
+            if (value.startsWith("$${", i)) {
+                literal.append("${");
+                i += 3;
+            } else if (value.startsWith("${", i)) {
+                int end = closingBrace(value, i + 2);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated placeholder in: " + value);
+                }
+                if (!literal.isEmpty()) {
+                    parts.add(literal.toString());
+                    literal.setLength(0);
+                }
+                Reference reference = reference(value.substring(i + 2, end), value);
+                references.add(reference.key());
+                if (reference.defaultTemplate() != null) {
+                    references.addAll(reference.defaultTemplate().references);
+                }
+                parts.add(reference);
+                i = end + 1;
+            } else {
+                literal.append(value.charAt(i++));
+            }
+        }
+        if (!literal.isEmpty()) {
+            parts.add(literal.toString());
+        }
+        return new Template(parts.toArray(), Set.copyOf(references));
+    }
+
+    /**
+     * Returns every key this template reads, including keys referenced by defaults.
+     *
+     * @return An immutable set of keys.
+     */
+    Set<String> getReferences() {
+        return references;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values Resolves a referenced key to its value, or {@code null} if it does not exist.
+     * @return The rendered value.
+     * @throws IllegalArgumentException If a referenced key does not exist and has no default.
+     */
+    String render(Function<String, String> values) {
+        StringBuilder result = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof Reference reference) {
+                result.append(reference.resolve(values));
+            } else {
+                result.append((String) part);
+            }
+        }
+        return result.toString();
+    }
+
+    private static Reference reference(String content, String value) {
+        int separator = content.indexOf(':');
+        String key = (separator < 0 ? content : content.substring(0, separator)).trim();
+        if (key.isEmpty() || key.contains("${")) {
+            throw new IllegalArgumentException("Invalid placeholder '${" + content + "}' in: " + value);
+        }
+        if (separator < 0) {
+            return new Reference(key, null, null);
+        }
+        String defaultValue = content.substring(separator + 1);
+        Template defaultTemplate = parse(defaultValue);
+        return defaultTemplate != null
+                ? new Reference(key, null, defaultTemplate)
+                : new Reference(key, defaultValue, null);
+    }
+
+    /**
+     * Finds the brace closing a placeholder whose content starts at {@code start}, skipping nested placeholders.
+     */
+    private static int closingBrace(String value, int start) {
+        int depth = 0;
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '$' && i + 1 < value.length() && value.charAt(i + 1) == '{') {
+                depth++;
+                i++;
+            } else if (c == '}') {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A placeholder, with either a literal or a templated default.
+     */
+    private record Reference(String key, String defaultValue, Template defaultTemplate) {
+
+        String resolve(Function<String, String> values) {
+            String value = values.apply(key);
+            if (value != null) {
+                return value;
+            }
+            if (defaultTemplate != null) {
+                return defaultTemplate.render(values);
+            }
+            if (defaultValue != null) {
+                return defaultValue;
+            }
+            throw new IllegalArgumentException("Unresolved placeholder '${" + key + "}'");
+        }
+    }
+}
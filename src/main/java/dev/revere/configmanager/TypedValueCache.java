@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the converted form of values read through the typed accessors of a {@link ConfigSnapshot}.
+ *
+ * <p>Each snapshot owns its own cache, so converted values are discarded together with the snapshot when a
+ * reload publishes a new one. Primitive values are stored in small holder objects created once per key, which
+ * lets repeated reads return them without parsing or boxing.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class TypedValueCache {
+    final Map<String, IntValue> ints = new ConcurrentHashMap<>();
+    final Map<String, LongValue> longs = new ConcurrentHashMap<>();
+    final Map<String, DoubleValue> doubles = new ConcurrentHashMap<>();
+    final Map<String, BooleanValue> booleans = new ConcurrentHashMap<>();
+    final Map<String, LongValue> byteSizes = new ConcurrentHashMap<>();
+    final Map<String, Duration> durations = new ConcurrentHashMap<>();
+    final Map<String, Enum<?>> enums = new ConcurrentHashMap<>();
+    final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+
+    record IntValue(int value) {
+    }
+
+    record LongValue(long value) {
+    }
+
+    record DoubleValue(double value) {
+    }
+
+    record BooleanValue(boolean value) {
+        static final BooleanValue TRUE = new BooleanValue(true);
+        static final BooleanValue FALSE = new BooleanValue(false);
+
+        static BooleanValue of(boolean value) {
+            return value ? TRUE : FALSE;
+        }
+    }
+}
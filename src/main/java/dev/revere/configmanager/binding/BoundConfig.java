@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.binding;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSnapshot;
+import dev.revere.configmanager.event.ConfigChange;
+import dev.revere.configmanager.event.ConfigChangeEvent;
+import dev.revere.configmanager.event.Subscription;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A configuration namespace bound onto a record or class that follows reloads.
+ *
+ * <p>The instance is bound once on creation. Afterwards, it is only rebound when a reload changes one of the
+ * keys it reads; changes to other keys, even in the same namespace, leave the current instance in place.
+ * Rebinding happens on the manager's listener executor, so {@link #get()} may briefly return the previous
+ * instance after a reload completes. If a reloaded value cannot be converted, the previous instance is kept and
+ * the exception is left to the listener executor.</p>
+ *
+ * <p>Because changes are detected through a prefix subscription, changes made by sources that cannot enumerate
+ * their values are not picked up. Close the binding to stop following reloads.</p>
+ *
+ * @param <T> The bound type.
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class BoundConfig<T> implements AutoCloseable {
+    private final ConfigManager manager;
+    private final ConfigBinder<T> binder;
+    private final String namespace;
+    private final Set<String> keys;
+    private final Subscription subscription;
+    private volatile T value;
+    private long version;
+
+    private BoundConfig(ConfigManager manager, ConfigBinder<T> binder, String namespace) {
+        this.manager = manager;
+        this.binder = binder;
+        this.namespace = namespace.endsWith(".") ? namespace.substring(0, namespace.length() - 1) : namespace;
+        String prefix = this.namespace.isEmpty() ? "" : this.namespace + ".";
+        Set<String> absoluteKeys = new HashSet<>();
+        for (String key : binder.getKeys()) {
+            absoluteKeys.add(prefix + key);
+        }
+        this.keys = Set.copyOf(absoluteKeys);
+        // Subscribe first so that a reload published before the initial bind is not missed. Binds of older
+        // snapshots are discarded by rebind.
+        this.subscription = manager.subscribePrefix(this.namespace, this::onChange);
+        try {
+            rebind(manager.getSnapshot());
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Binds a namespace of a manager's configuration and keeps it up to date.
+     *
+     * @param manager   The manager to read from.
+     * @param namespace The namespace to bind, such as {@code db.pool}, or the empty string for the root.
+     * @param type      The record or class to bind onto.
+     * @param <T>       The bound type.
+     * @return The binding.
+     * @throws IllegalArgumentException If the type cannot be bound or a value cannot be converted.
+     */
+    public static <T> BoundConfig<T> bind(ConfigManager manager, String namespace, Class<T> type) {
+        return new BoundConfig<>(manager, ConfigBinder.of(type), namespace);
+    }
+
+    /**
+     * Returns the most recently bound instance.
+     *
+     * @return The bound instance.
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Returns the bound namespace.
+     *
+     * @return The namespace, without a trailing {@code .}.
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns the absolute keys whose changes cause a rebind.
+     *
+     * @return An immutable set of keys.
+     */
+    public Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the version of the snapshot the current instance was bound from.
+     *
+     * @return The snapshot version.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Stops following reloads. The current instance remains available through {@link #get()}.
+     */
+    @Override
+    public void close() {
+        subscription.close();
+    }
+
+    private void onChange(ConfigChangeEvent event) {
+        List<ConfigChange> changes = event.changes();
+        for (ConfigChange change : changes) {
+            if (keys.contains(change.key())) {
+                rebind(manager.getSnapshot());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Binds from the specified snapshot unless a newer snapshot has already been bound, since notifications
+     * for consecutive reloads may run concurrently.
+     */
+    private synchronized void rebind(ConfigSnapshot snapshot) {
+        if (value != null && snapshot.getVersion() <= version) {
+            return;
+        }
+        value = binder.bind(snapshot::getValue, namespace);
+        version = snapshot.getVersion();
+    }
+}
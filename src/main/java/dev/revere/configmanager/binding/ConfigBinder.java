@@ -0,0 +1,329 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.binding;
+
+import dev.revere.configmanager.util.ValueParserUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Binds a configuration namespace onto a record or class.
+ *
+ * <p>The first call to {@link #of(Class)} for a type inspects it once and compiles a plan: the relative key,
+ * converter and default of every property, plus {@link MethodHandle}s for the record's canonical constructor or
+ * for the class's no-argument constructor and field setters. The plan is cached per type, and binding only
+ * reads values, converts them and invokes the method handles, without any reflective calls. The absolute keys
+ * are also computed once per namespace.</p>
+ *
+ * <p>Supported property types are {@code String}, the primitive types and their wrappers, {@link Duration},
+ * enums and {@code List<String>} (comma-separated). A property whose type is itself a record is bound from the
+ * nested namespace named after the property. Classes must have a no-argument constructor; their non-static,
+ * non-transient fields are bound. A field with neither a value nor a default keeps its initializer, whereas a
+ * missing primitive record component is bound to zero or {@code false}.</p>
+ *
+ * @param <T> The bound type.
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class ConfigBinder<T> {
+    private static final ClassValue<ConfigBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected ConfigBinder<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final Property[] properties;
+    private final MethodHandle constructor;
+    private final List<String> keys;
+    private final Map<String, String[]> absoluteKeys = new ConcurrentHashMap<>();
+
+    private ConfigBinder(Class<T> type, Property[] properties, MethodHandle constructor) {
+        this.type = type;
+        this.properties = properties;
+        this.constructor = constructor;
+        List<String> relativeKeys = new ArrayList<>();
+        for (Property property : properties) {
+            property.collectKeys("", relativeKeys);
+        }
+        this.keys = List.copyOf(relativeKeys);
+    }
+
+    /**
+     * Returns the binder for the specified type, compiling it on first use.
+     *
+     * @param type The record or class to bind.
+     * @param <T>  The bound type.
+     * @return The binder.
+     * @throws IllegalArgumentException If the type cannot be bound.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConfigBinder<T> of(Class<T> type) {
+        return (ConfigBinder<T>) BINDERS.get(type);
+    }
+
+    /**
+     * Binds a namespace onto a new instance.
+     *
+     * @param lookup    Resolves absolute keys to values, such as {@code snapshot::getValue}.
+     * @param namespace The namespace to bind, such as {@code db.pool}, or the empty string for the root.
+     * @return The bound instance.
+     * @throws IllegalArgumentException If a value cannot be converted to its property's type.
+     */
+    public T bind(Function<String, String> lookup, String namespace) {
+        return type.cast(bindObject(lookup, prefix(namespace)));
+    }
+
+    /**
+     * Returns the type this binder creates.
+     *
+     * @return The bound type.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns every key read by this binder, relative to the bound namespace. Keys of nested records are
+     * included in dotted form.
+     *
+     * @return An immutable list of the relative keys.
+     */
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    private Object bindObject(Function<String, String> lookup, String prefix) {
+        String[] keys = absoluteKeys.computeIfAbsent(prefix, this::absoluteKeys);
+        try {
+            if (constructor.type().parameterCount() == 1) {
+                Object[] arguments = new Object[properties.length];
+                for (int i = 0; i < properties.length; i++) {
+                    arguments[i] = properties[i].resolve(lookup, keys[i]);
+                }
+                return (Object) constructor.invokeExact(arguments);
+            }
+            Object instance = (Object) constructor.invokeExact();
+            for (int i = 0; i < properties.length; i++) {
+                Object value = properties[i].resolve(lookup, keys[i]);
+                if (value != null) {
+                    properties[i].setter.invokeExact(instance, value);
+                }
+            }
+            return instance;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to bind " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Computes the absolute key of every property under a prefix, or the nested prefix for nested records.
+     */
+    private String[] absoluteKeys(String prefix) {
+        String[] keys = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            keys[i] = properties[i].nested != null ? prefix + properties[i].key + "." : prefix + properties[i].key;
+        }
+        return keys;
+    }
+
+    private static ConfigBinder<?> compile(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            return type.isRecord() ? compileRecord(type, lookup) : compileClass(type, lookup);
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("Cannot bind configuration to " + type.getName(), e);
+        }
+    }
+
+    private static <T> ConfigBinder<T> compileRecord(Class<T> type, MethodHandles.Lookup lookup)
+            throws NoSuchMethodException, IllegalAccessException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Property[] properties = new Property[components.length];
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            parameterTypes[i] = component.getType();
+            properties[i] = property(component.getName(), component.getType(), component.getGenericType(),
+                    component.getAnnotation(ConfigProperty.class), null);
+        }
+        Constructor<T> canonical = type.getDeclaredConstructor(parameterTypes);
+        MethodHandle constructor = lookup.unreflectConstructor(canonical)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new ConfigBinder<>(type, properties, constructor);
+    }
+
+    private static <T> ConfigBinder<T> compileClass(Class<T> type, MethodHandles.Lookup lookup)
+            throws NoSuchMethodException, IllegalAccessException {
+        List<Property> properties = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            MethodHandles.Lookup fieldLookup = MethodHandles.privateLookupIn(current, lookup);
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || Modifier.isFinal(modifiers)
+                        || field.isSynthetic()) {
+                    continue;
+                }
+                MethodHandle setter = fieldLookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                properties.add(property(field.getName(), field.getType(), field.getGenericType(),
+                        field.getAnnotation(ConfigProperty.class), setter));
+            }
+        }
+        MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+        return new ConfigBinder<>(type, properties.toArray(new Property[0]), constructor);
+    }
+
+    private static Property property(String name, Class<?> type, Type genericType, ConfigProperty annotation,
+                                     MethodHandle setter) {
+        String key = annotation != null && !annotation.value().isEmpty() ? annotation.value() : name;
+        if (type.isRecord()) {
+            return new Property(key, null, null, of(type), setter);
+        }
+        Function<String, Object> converter = converter(type, genericType);
+        Object defaultValue = null;
+        if (annotation != null && !ConfigProperty.NO_DEFAULT.equals(annotation.defaultValue())) {
+            defaultValue = converter.apply(annotation.defaultValue());
+        } else if (type.isPrimitive() && setter == null) {
+            // A record component needs a value, but a field is left unset so that it keeps its initializer.
+            defaultValue = primitiveDefault(type);
+        }
+        return new Property(key, converter, defaultValue, null, setter);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> converter(Class<?> type, Type genericType) {
+        if (type == String.class) {
+            return value -> value;
+        } else if (type == int.class || type == Integer.class) {
+            return value -> Integer.parseInt(value.trim());
+        } else if (type == long.class || type == Long.class) {
+            return value -> Long.parseLong(value.trim());
+        } else if (type == double.class || type == Double.class) {
+            return value -> Double.parseDouble(value.trim());
+        } else if (type == float.class || type == Float.class) {
+            return value -> Float.parseFloat(value.trim());
+        } else if (type == short.class || type == Short.class) {
+            return value -> Short.parseShort(value.trim());
+        } else if (type == byte.class || type == Byte.class) {
+            return value -> Byte.parseByte(value.trim());
+        } else if (type == boolean.class || type == Boolean.class) {
+            return ValueParserUtil::parseBoolean;
+        } else if (type == char.class || type == Character.class) {
+            return value -> {
+                if (value.length() != 1) {
+                    throw new IllegalArgumentException("Invalid character: " + value);
+                }
+                return value.charAt(0);
+            };
+        } else if (type == Duration.class) {
+            return ValueParserUtil::parseDuration;
+        } else if (type.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            return value -> ValueParserUtil.parseEnum(enumType, value);
+        } else if (type == List.class && genericType instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] == String.class) {
+            return ValueParserUtil::parseList;
+        }
+        throw new IllegalArgumentException("Unsupported configuration property type: " + genericType);
+    }
+
+    private static Object primitiveDefault(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0.0;
+        } else if (type == float.class) {
+            return 0.0f;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        }
+        return 0;
+    }
+
+    private static String prefix(String namespace) {
+        if (namespace.isEmpty() || namespace.endsWith(".")) {
+            return namespace;
+        }
+        return namespace + ".";
+    }
+
+    /**
+     * A compiled property: either a converted value or a nested record.
+     */
+    private record Property(String key, Function<String, Object> converter, Object defaultValue,
+                            ConfigBinder<?> nested, MethodHandle setter) {
+
+        Object resolve(Function<String, String> lookup, String absoluteKey) {
+            if (nested != null) {
+                return nested.bindObject(lookup, absoluteKey);
+            }
+            String value = lookup.apply(absoluteKey);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return converter.apply(value);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid value for key '" + absoluteKey + "': " + value, e);
+            }
+        }
+
+        void collectKeys(String prefix, List<String> keys) {
+            if (nested == null) {
+                keys.add(prefix + key);
+                return;
+            }
+            for (Property property : nested.properties) {
+                property.collectKeys(prefix + key + ".", keys);
+            }
+        }
+    }
+}
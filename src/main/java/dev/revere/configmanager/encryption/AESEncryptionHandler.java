@@ -26,19 +26,42 @@ package dev.revere.configmanager.encryption;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Provides AES encryption and decryption functionality using a Base64-encoded key.
  *
  * <p>This class uses the AES encryption algorithm to encrypt and decrypt strings. It requires a Base64-encoded key to initialize the encryption handler.</p>
  *
+ * <p>Initialized {@link Cipher} instances and the buffers used while decrypting are reused rather than created
+ * per call. Platform threads each keep their own, while virtual threads borrow them from a small shared pool.
+ * Decryption decodes Base64 straight into a reused buffer and clears the plaintext bytes once the result string
+ * has been built.</p>
+ *
  * @author Remi
  * @project java-config-system
  * @date 8/19/2024
  */
 public class AESEncryptionHandler {
+    private static final String TRANSFORMATION = "AES";
+    private static final int MAX_POOLED_STATES = 64;
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
     private final SecretKey secretKey;
+    private final ThreadLocal<CipherState> threadStates = new ThreadLocal<>();
+    private final Queue<CipherState> sharedStates = new ConcurrentLinkedQueue<>();
 
     /**
      * Constructs an {@code AESEncryptionHandler} with the specified Base64-encoded key.
@@ -58,10 +81,16 @@ public class AESEncryptionHandler {
      * @throws Exception If an error occurs during encryption.
      */
     public String encrypt(String plainText) throws Exception {
-        Cipher cipher = Cipher.getInstance("AES");
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-        byte[] encryptedBytes = cipher.doFinal(plainText.getBytes());
-        return Base64.getEncoder().encodeToString(encryptedBytes);
+        CipherState state = acquire();
+        try {
+            byte[] encryptedBytes = state.encryptCipher().doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(encryptedBytes);
+        } catch (Exception e) {
+            state.encryptCipher = null;
+            throw e;
+        } finally {
+            release(state);
+        }
     }
 
     /**
@@ -72,9 +101,123 @@ public class AESEncryptionHandler {
      * @throws Exception If an error occurs during decryption.
      */
     public String decrypt(String cipherText) throws Exception {
-        Cipher cipher = Cipher.getInstance("AES");
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
-        byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
-        return new String(cipher.doFinal(decodedBytes));
+        CipherState state = acquire();
+        try {
+            byte[] decoded = state.decodeBuffer(cipherText.length() / 4 * 3 + 3);
+            int decodedLength = decodeBase64(cipherText, decoded);
+
+            Cipher cipher = state.decryptCipher();
+            byte[] plain = state.plainBuffer(cipher.getOutputSize(decodedLength));
+            int plainLength;
+            try {
+                plainLength = cipher.doFinal(decoded, 0, decodedLength, plain, 0);
+            } catch (Exception e) {
+                // Never reuse a cipher left in an unknown state by a failed operation.
+                state.decryptCipher = null;
+                throw e;
+            }
+            try {
+                return new String(plain, 0, plainLength, StandardCharsets.UTF_8);
+            } finally {
+                Arrays.fill(plain, 0, plainLength, (byte) 0);
+            }
+        } finally {
+            release(state);
+        }
+    }
+
+    private CipherState acquire() {
+        if (Thread.currentThread().isVirtual()) {
+            CipherState state = sharedStates.poll();
+            return state != null ? state : new CipherState();
+        }
+        CipherState state = threadStates.get();
+        if (state == null) {
+            state = new CipherState();
+            threadStates.set(state);
+        }
+        return state;
+    }
+
+    private void release(CipherState state) {
+        if (Thread.currentThread().isVirtual() && sharedStates.size() < MAX_POOLED_STATES) {
+            sharedStates.offer(state);
+        }
+    }
+
+    /**
+     * Decodes standard Base64 into the target buffer. As with {@link java.util.Base64#getDecoder()}, padding may be
+     * omitted, but if present it must complete the final group.
+     *
+     * @return The number of decoded bytes.
+     */
+    private static int decodeBase64(String encoded, byte[] target) {
+        int length = encoded.length();
+        while (length > 0 && encoded.charAt(length - 1) == '=') {
+            length--;
+        }
+        int padding = encoded.length() - length;
+        if (padding > 2 || (padding > 0 && encoded.length() % 4 != 0) || length % 4 == 1) {
+            throw new IllegalArgumentException("Invalid Base64 input length: " + encoded.length());
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        int written = 0;
+        for (int i = 0; i < length; i++) {
+            char c = encoded.charAt(i);
+            int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Illegal Base64 character at index " + i);
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Initialized ciphers and scratch buffers owned by one thread at a time.
+     */
+    private final class CipherState {
+        private Cipher encryptCipher;
+        private Cipher decryptCipher;
+        private byte[] decodeBuffer = new byte[64];
+        private byte[] plainBuffer = new byte[64];
+
+        Cipher encryptCipher() throws Exception {
+            if (encryptCipher == null) {
+                encryptCipher = Cipher.getInstance(TRANSFORMATION);
+                encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey);
+            }
+            return encryptCipher;
+        }
+
+        Cipher decryptCipher() throws Exception {
+            if (decryptCipher == null) {
+                decryptCipher = Cipher.getInstance(TRANSFORMATION);
+                decryptCipher.init(Cipher.DECRYPT_MODE, secretKey);
+            }
+            return decryptCipher;
+        }
+
+        byte[] decodeBuffer(int size) {
+            if (decodeBuffer.length < size) {
+                decodeBuffer = new byte[size];
+            }
+            return decodeBuffer;
+        }
+
+        byte[] plainBuffer(int size) {
+            if (plainBuffer.length < size) {
+                Arrays.fill(plainBuffer, (byte) 0);
+                plainBuffer = new byte[size];
+            }
+            return plainBuffer;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.encryption;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded cache of decrypted configuration values, keyed by their encrypted form.
+ *
+ * <p>Plain text is cached as the string handed to readers, so a cache hit allocates nothing. Once the cache
+ * holds more than its maximum number of entries, the oldest entries are evicted first.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class DecryptionCache {
+    private final int maxEntries;
+    private final Map<String, String> plainTexts = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructs a {@code DecryptionCache} holding at most the specified number of entries.
+     *
+     * @param maxEntries The maximum number of cached values.
+     */
+    public DecryptionCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached plain text for the specified encrypted value.
+     *
+     * @param encrypted The encrypted value.
+     * @return The plain text, or {@code null} if it is not cached.
+     */
+    public String get(String encrypted) {
+        return plainTexts.get(encrypted);
+    }
+
+    /**
+     * Caches the plain text for the specified encrypted value, evicting the oldest entries if the cache is full.
+     *
+     * @param encrypted The encrypted value.
+     * @param plainText The decrypted value.
+     */
+    public void put(String encrypted, String plainText) {
+        if (plainTexts.put(encrypted, plainText) == null) {
+            insertionOrder.add(encrypted);
+        }
+        while (plainTexts.size() > maxEntries) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            plainTexts.remove(eldest);
+        }
+    }
+
+    /**
+     * Removes every cached value.
+     */
+    public void clear() {
+        insertionOrder.clear();
+        plainTexts.clear();
+    }
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return plainTexts.size();
+    }
+
+    /**
+     * Returns the maximum number of cached values.
+     *
+     * @return The maximum cache size.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.encryption;
+
+import dev.revere.configmanager.metrics.ConfigMetrics;
+
+/**
+ * Resolves encrypted configuration values of the form {@code ENC(<cipher text>)} to their plain text.
+ *
+ * <p>Decrypted values are kept in a {@link DecryptionCache} keyed by the stored {@code ENC(...)} value, so
+ * reading a secret repeatedly costs a map lookup instead of an AES operation and allocates nothing. Values without the {@code ENC(...)} wrapper are returned unchanged.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class EncryptedValueResolver {
+    private static final String PREFIX = "ENC(";
+    private static final String SUFFIX = ")";
+
+    private final ConfigEncryptor encryptor;
+    private final DecryptionCache cache;
+    private final ConfigMetrics metrics;
+
+    /**
+     * Constructs an {@code EncryptedValueResolver} using the specified encryptor and cache.
+     *
+     * @param encryptor The encryptor holding the current key.
+     * @param cache     The cache for decrypted values.
+     */
+    public EncryptedValueResolver(ConfigEncryptor encryptor, DecryptionCache cache) {
+        this(encryptor, cache, ConfigMetrics.NOOP);
+    }
+
+    /**
+     * Constructs an {@code EncryptedValueResolver} that reports every decryption to the specified metrics.
+     *
+     * @param encryptor The encryptor holding the current key.
+     * @param cache     The cache for decrypted values.
+     * @param metrics   The metrics to report decryptions to.
+     */
+    public EncryptedValueResolver(ConfigEncryptor encryptor, DecryptionCache cache, ConfigMetrics metrics) {
+        this.encryptor = encryptor;
+        this.cache = cache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns a resolver that shares this resolver's encryptor and cache but reports to the specified metrics.
+     *
+     * @param metrics The metrics to report decryptions to.
+     * @return The new resolver.
+     */
+    public EncryptedValueResolver withMetrics(ConfigMetrics metrics) {
+        return new EncryptedValueResolver(encryptor, cache, metrics);
+    }
+
+    /**
+     * Returns a resolver that shares this resolver's encryptor and metrics but starts with an empty cache of the
+     * same size.
+     *
+     * @return The new resolver.
+     */
+    public EncryptedValueResolver withEmptyCache() {
+        return new EncryptedValueResolver(encryptor, new DecryptionCache(cache.getMaxEntries()), metrics);
+    }
+
+    /**
+     * Checks whether a value is wrapped as {@code ENC(...)}.
+     *
+     * @param value The value to check.
+     * @return {@code true} if the value is encrypted.
+     */
+    public static boolean isEncrypted(String value) {
+        return value.startsWith(PREFIX) && value.endsWith(SUFFIX);
+    }
+
+    /**
+     * Wraps cipher text as {@code ENC(...)} so it is decrypted transparently when read from a configuration.
+     *
+     * @param cipherText The Base64-encoded cipher text.
+     * @return The wrapped value.
+     */
+    public static String wrap(String cipherText) {
+        return PREFIX + cipherText + SUFFIX;
+    }
+
+    /**
+     * Returns the plain text of an encrypted value, or the value itself if it is not encrypted.
+     *
+     * @param value The raw configuration value.
+     * @return The plain text value.
+     * @throws IllegalStateException If the value cannot be decrypted with the current key.
+     */
+    public String resolve(String value) {
+        if (!isEncrypted(value)) {
+            return value;
+        }
+        String plainText = cache.get(value);
+        if (plainText != null) {
+            return plainText;
+        }
+        try {
+            return decrypt(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to decrypt configuration value", e);
+        }
+    }
+
+    /**
+     * Decrypts an encrypted value ahead of time and stores it in the cache.
+     *
+     * @param value The raw configuration value. Values that are not encrypted are ignored.
+     * @throws Exception If the value cannot be decrypted with the current key.
+     */
+    public void preload(String value) throws Exception {
+        if (isEncrypted(value) && cache.get(value) == null) {
+            decrypt(value);
+        }
+    }
+
+    /**
+     * Removes all cached plain text.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private String decrypt(String value) throws Exception {
+        long start = System.nanoTime();
+        String plainText = encryptor.decryptConfigValue(
+                value.substring(PREFIX.length(), value.length() - SUFFIX.length()));
+        metrics.recordDecrypt(System.nanoTime() - start);
+        cache.put(value, plainText);
+        return plainText;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.env;
+
+import dev.revere.configmanager.ConfigSource;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code ConfigSource} implementation that exposes environment variables under relaxed configuration keys.
+ *
+ * <p>Variable names are mapped to keys by lower-casing them and replacing {@code _} with {@code .} and
+ * {@code __} with {@code -}, so {@code DB_POOL_SIZE} provides {@code db.pool.size} and
+ * {@code DB_POOL_MAX__IDLE} provides {@code db.pool.max-idle}. The mapping is computed once per
+ * {@link #load()}, so lookups are plain map reads and the source can be merged into an indexed snapshot.</p>
+ *
+ * <p>When a prefix is given, only variables starting with it are exposed, without the prefix, so with the
+ * prefix {@code APP_} the variable {@code APP_DB_HOST} provides {@code db.host}. If several variables map to
+ * the same key, the one that sorts first wins, which favors the conventional upper-case spelling.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class EnvironmentConfigSource implements ConfigSource {
+    private final String prefix;
+    private final Supplier<Map<String, String>> environment;
+    private volatile Map<String, String> values = Map.of();
+
+    /**
+     * Constructs an {@code EnvironmentConfigSource} that exposes every environment variable.
+     */
+    public EnvironmentConfigSource() {
+        this("");
+    }
+
+    /**
+     * Constructs an {@code EnvironmentConfigSource} that exposes the environment variables starting with the
+     * specified prefix.
+     *
+     * @param prefix The prefix, such as {@code APP_}, which is removed from the exposed keys.
+     */
+    public EnvironmentConfigSource(String prefix) {
+        this(prefix, System::getenv);
+    }
+
+    /**
+     * Constructs an {@code EnvironmentConfigSource} that reads variables from the specified supplier instead of
+     * the process environment.
+     */
+    EnvironmentConfigSource(String prefix, Supplier<Map<String, String>> environment) {
+        this.prefix = prefix;
+        this.environment = environment;
+    }
+
+    /**
+     * Reads the environment and maps the variable names to configuration keys.
+     */
+    @Override
+    public void load() {
+        Map<String, String> mapped = new HashMap<>();
+        for (Map.Entry<String, String> entry : new TreeMap<>(environment.get()).entrySet()) {
+            String name = entry.getKey();
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                mapped.putIfAbsent(toPropertyKey(name.substring(prefix.length())), entry.getValue());
+            }
+        }
+        values = Map.copyOf(mapped);
+    }
+
+    /**
+     * Retrieves the value of the variable that maps to the specified key.
+     *
+     * @param key The key to search for, such as {@code db.pool.size}.
+     * @return The value of the variable, or {@code null} if no variable maps to the key.
+     */
+    @Override
+    public String getValue(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the mapped variables.
+     *
+     * @return An unmodifiable map from configuration keys to values.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Maps an environment variable name to a configuration key, such as {@code DB_POOL_SIZE} to
+     * {@code db.pool.size}.
+     *
+     * @param name The variable name, without prefix.
+     * @return The configuration key.
+     */
+    public static String toPropertyKey(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                if (i + 1 < name.length() && name.charAt(i + 1) == '_') {
+                    key.append('-');
+                    i++;
+                } else {
+                    key.append('.');
+                }
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Maps a configuration key to the environment variable name that provides it, such as
+     * {@code db.pool.size} to {@code DB_POOL_SIZE}.
+     *
+     * @param key The configuration key.
+     * @return The variable name, without prefix.
+     */
+    public static String toVariableName(String key) {
+        return key.replace("-", "__").replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+}
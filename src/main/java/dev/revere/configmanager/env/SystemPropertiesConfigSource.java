@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.env;
+
+import dev.revere.configmanager.ConfigSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@code ConfigSource} implementation that exposes JVM system properties, such as those passed with
+ * {@code -Ddb.pool.size=20}.
+ *
+ * <p>The properties are copied on each {@link #load()}, so properties set at runtime become visible on the next
+ * reload and lookups never touch the synchronized {@link System#getProperties()} table. When a prefix is given,
+ * only properties starting with it are exposed, without the prefix, so with the prefix {@code app.} the property
+ * {@code app.db.host} provides {@code db.host}.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class SystemPropertiesConfigSource implements ConfigSource {
+    private final String prefix;
+    private volatile Map<String, String> values = Map.of();
+
+    /**
+     * Constructs a {@code SystemPropertiesConfigSource} that exposes every system property.
+     */
+    public SystemPropertiesConfigSource() {
+        this("");
+    }
+
+    /**
+     * Constructs a {@code SystemPropertiesConfigSource} that exposes the system properties starting with the
+     * specified prefix.
+     *
+     * @param prefix The prefix, such as {@code app.}, which is removed from the exposed keys.
+     */
+    public SystemPropertiesConfigSource(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Copies the current system properties.
+     */
+    @Override
+    public void load() {
+        Properties properties = System.getProperties();
+        Map<String, String> copied = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                String value = properties.getProperty(name);
+                if (value != null) {
+                    copied.put(name.substring(prefix.length()), value);
+                }
+            }
+        }
+        values = Map.copyOf(copied);
+    }
+
+    /**
+     * Retrieves the value of the specified property, as of the last {@link #load()}.
+     *
+     * @param key The key to search for, without prefix.
+     * @return The value of the property, or {@code null} if it was not set.
+     */
+    @Override
+    public String getValue(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the copied properties.
+     *
+     * @return An unmodifiable map from keys to values.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        return values;
+    }
+}
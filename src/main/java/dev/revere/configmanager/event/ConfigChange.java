@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.event;
+
+/**
+ * A change to the value of a single configuration key.
+ *
+ * @param key      The key that changed.
+ * @param oldValue The previous value, or {@code null} if the key was added.
+ * @param newValue The new value, or {@code null} if the key was removed.
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public record ConfigChange(String key, String oldValue, String newValue) {
+
+    /**
+     * Checks whether the key did not exist before this change.
+     *
+     * @return {@code true} if the key was added.
+     */
+    public boolean isAdded() {
+        return oldValue == null;
+    }
+
+    /**
+     * Checks whether the key no longer exists after this change.
+     *
+     * @return {@code true} if the key was removed.
+     */
+    public boolean isRemoved() {
+        return newValue == null;
+    }
+}
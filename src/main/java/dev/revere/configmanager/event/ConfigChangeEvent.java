@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.event;
+
+import java.util.List;
+
+/**
+ * All changes matching a subscription that were caused by a single reload.
+ *
+ * @param changes The changes, at least one.
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public record ConfigChangeEvent(List<ConfigChange> changes) {
+
+    /**
+     * Returns the change to the specified key.
+     *
+     * @param key The key to look up.
+     * @return The change, or {@code null} if the key did not change in this event.
+     */
+    public ConfigChange getChange(String key) {
+        for (ConfigChange change : changes) {
+            if (change.key().equals(key)) {
+                return change;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Keeps track of change listeners subscribed to exact keys or to key prefixes, and dispatches batched change
+ * events to them.
+ *
+ * <p>A prefix matches whole namespaces: {@code cache.redis} matches {@code cache.redis},
+ * {@code cache.redis.host} and {@code cache.redis[0]}, but not {@code cache.redisson}. The empty prefix matches
+ * every key. Matching a changed key costs one lookup per namespace level, independent of the number of
+ * subscriptions.</p>
+ *
+ * <p>Listeners run on the registry's executor, by default one virtual thread per delivery, and never on the
+ * thread that performed the reload.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ListenerRegistry {
+    private final Map<String, List<Subscription>> exact = new ConcurrentHashMap<>();
+    private final Map<String, List<Subscription>> prefixes = new ConcurrentHashMap<>();
+    private volatile Executor executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("config-listener-", 0).factory());
+
+    /**
+     * Subscribes a listener to changes of a single key.
+     *
+     * @param key      The key to watch.
+     * @param listener The listener to notify.
+     * @return The subscription, which can be closed to unsubscribe.
+     */
+    public Subscription subscribe(String key, ConfigChangeListener listener) {
+        Subscription subscription = new Subscription(this, key, false, Objects.requireNonNull(listener));
+        exact.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Subscribes a listener to changes of every key in a namespace.
+     *
+     * @param prefix   The namespace to watch, such as {@code cache.redis}. A trailing {@code .} is ignored.
+     * @param listener The listener to notify.
+     * @return The subscription, which can be closed to unsubscribe.
+     */
+    public Subscription subscribePrefix(String prefix, ConfigChangeListener listener) {
+        String namespace = prefix.endsWith(".") ? prefix.substring(0, prefix.length() - 1) : prefix;
+        Subscription subscription = new Subscription(this, namespace, true, Objects.requireNonNull(listener));
+        prefixes.computeIfAbsent(namespace, k -> new CopyOnWriteArrayList<>()).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Sets the executor that listeners are notified on.
+     *
+     * @param executor The executor.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Returns the executor that listeners are notified on.
+     *
+     * @return The executor.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Checks whether any listener is subscribed.
+     *
+     * @return {@code true} if there are no subscriptions.
+     */
+    public boolean isEmpty() {
+        return exact.isEmpty() && prefixes.isEmpty();
+    }
+
+    /**
+     * Compares the candidate keys between two versions of a configuration and sends one event to each
+     * subscription with matching changes.
+     *
+     * <p>If the candidate keys may be incomplete, for example because a source cannot enumerate its keys,
+     * every key with an exact subscription is compared as well. Prefix subscriptions only see changes to
+     * candidate keys.</p>
+     *
+     * @param before     Resolves keys against the previous configuration.
+     * @param after      Resolves keys against the new configuration.
+     * @param candidates The keys that may have changed.
+     * @param complete   Whether every changed key is guaranteed to be among the candidates.
+     */
+    public void dispatch(Function<String, String> before, Function<String, String> after,
+                         Collection<String> candidates, boolean complete) {
+        if (isEmpty()) {
+            return;
+        }
+        Map<Subscription, List<ConfigChange>> batches = new LinkedHashMap<>();
+        for (String key : candidates) {
+            collect(key, before, after, batches, true);
+        }
+        if (!complete) {
+            for (String key : exact.keySet()) {
+                if (!candidates.contains(key)) {
+                    collect(key, before, after, batches, false);
+                }
+            }
+        }
+        for (Map.Entry<Subscription, List<ConfigChange>> batch : batches.entrySet()) {
+            batch.getKey().enqueue(new ConfigChangeEvent(List.copyOf(batch.getValue())));
+        }
+    }
+
+    void remove(Subscription subscription) {
+        Map<String, List<Subscription>> index = subscription.isPrefix() ? prefixes : exact;
+        index.computeIfPresent(subscription.getTarget(), (key, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private void collect(String key, Function<String, String> before, Function<String, String> after,
+                         Map<Subscription, List<ConfigChange>> batches, boolean matchPrefixes) {
+        List<Subscription> exactMatches = exact.get(key);
+        if (exactMatches == null && (!matchPrefixes || prefixes.isEmpty())) {
+            return;
+        }
+        String oldValue = before.apply(key);
+        String newValue = after.apply(key);
+        if (Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        ConfigChange change = new ConfigChange(key, oldValue, newValue);
+        if (exactMatches != null) {
+            add(exactMatches, change, batches);
+        }
+        if (matchPrefixes && !prefixes.isEmpty()) {
+            add(prefixes.get(""), change, batches);
+            for (int i = 1; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (c == '.' || c == '[') {
+                    add(prefixes.get(key.substring(0, i)), change, batches);
+                }
+            }
+            add(prefixes.get(key), change, batches);
+        }
+    }
+
+    private static void add(List<Subscription> subscriptions, ConfigChange change,
+                            Map<Subscription, List<ConfigChange>> batches) {
+        if (subscriptions != null) {
+            for (Subscription subscription : subscriptions) {
+                batches.computeIfAbsent(subscription, s -> new ArrayList<>()).add(change);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A registered {@link ConfigChangeListener}. Closing the subscription stops further notifications.
+ *
+ * <p>Each subscription has its own queue of pending events that is drained by at most one task at a time, so
+ * a slow listener only delays its own events.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class Subscription implements AutoCloseable {
+    private final ListenerRegistry registry;
+    private final String target;
+    private final boolean prefix;
+    private final ConfigChangeListener listener;
+    private final Queue<ConfigChangeEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    Subscription(ListenerRegistry registry, String target, boolean prefix, ConfigChangeListener listener) {
+        this.registry = registry;
+        this.target = target;
+        this.prefix = prefix;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the key or prefix this subscription listens to.
+     *
+     * @return The subscribed key or prefix.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Checks whether this subscription matches a whole namespace rather than a single key.
+     *
+     * @return {@code true} for prefix subscriptions.
+     */
+    public boolean isPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Unsubscribes the listener. Events that have not been delivered yet are discarded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        pending.clear();
+        registry.remove(this);
+    }
+
+    void enqueue(ConfigChangeEvent event) {
+        if (closed) {
+            return;
+        }
+        pending.add(event);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                registry.getExecutor().execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Retried with the next event.
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        ConfigChangeEvent event;
+        while ((event = pending.poll()) != null) {
+            if (closed) {
+                return;
+            }
+            try {
+                listener.onChange(event);
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+        scheduled.set(false);
+        if (!pending.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.format;
+
+import dev.revere.configmanager.ConfigSource;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiles configuration into the binary format read by {@link MappedConfigSource}.
+ *
+ * <p>The file starts with a header ({@code magic}, {@code version}, entry count and slot count), followed by an
+ * open-addressing hash table of entry offsets and then the entries themselves, sorted by key. Every entry stores
+ * the key's {@link String#hashCode()}, followed by the UTF-8 encoded key and value, each prefixed with its
+ * length. All integers are big-endian.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class BinaryConfigCompiler {
+
+    static final int MAGIC = 0x52434647; // "RCFG"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int EMPTY_SLOT = -1;
+
+    /**
+     * Compiles the loaded values of a source into a binary configuration file.
+     *
+     * @param source The loaded source to compile. It must support {@link ConfigSource#getValues()}.
+     * @param output The file to write.
+     * @throws IOException If an I/O error occurs while writing the file.
+     */
+    public static void compile(ConfigSource source, File output) throws IOException {
+        compile(source.getValues(), output);
+    }
+
+    /**
+     * Compiles a configuration map into a binary configuration file.
+     *
+     * @param values The configuration to compile. Entries with {@code null} values are skipped.
+     * @param output The file to write. An existing file is replaced atomically, so sources that have it mapped
+     *               keep reading the previous contents until they are reloaded.
+     * @throws IOException If an I/O error occurs while writing the file.
+     */
+    public static void compile(Map<String, String> values, File output) throws IOException {
+        TreeMap<String, String> sorted = new TreeMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (entry.getValue() != null) {
+                sorted.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        int entryCount = sorted.size();
+        int slotCount = slotCount(entryCount);
+        byte[][] keys = new byte[entryCount][];
+        byte[][] encodedValues = new byte[entryCount][];
+        int[] hashes = new int[entryCount];
+        int[] slots = new int[slotCount];
+        Arrays.fill(slots, EMPTY_SLOT);
+
+        long offset = HEADER_SIZE + (long) slotCount * Integer.BYTES;
+        int index = 0;
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            keys[index] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            encodedValues[index] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            hashes[index] = entry.getKey().hashCode();
+            if (offset > Integer.MAX_VALUE) {
+                throw new IOException("Configuration is too large for the binary format");
+            }
+
+            int slot = spread(hashes[index]) & (slotCount - 1);
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            slots[slot] = (int) offset;
+            offset += 3L * Integer.BYTES + keys[index].length + encodedValues[index].length;
+            index++;
+        }
+
+        // The output may be mapped by a MappedConfigSource, so it is replaced rather than truncated and rewritten.
+        Path target = output.toPath().toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entryCount);
+            out.writeInt(slotCount);
+            for (int slot : slots) {
+                out.writeInt(slot);
+            }
+            for (int i = 0; i < entryCount; i++) {
+                out.writeInt(hashes[i]);
+                out.writeInt(keys[i].length);
+                out.write(keys[i]);
+                out.writeInt(encodedValues[i].length);
+                out.write(encodedValues[i]);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Spreads the bits of a hash code so that keys differing only in their upper bits use different slots.
+     */
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int slotCount(int entryCount) {
+        int slotCount = Integer.highestOneBit(Math.max(2, entryCount * 2 - 1)) << 1;
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("Too many entries: " + entryCount);
+        }
+        return slotCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.format;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flattens a stream of structural events from a document parser into dotted configuration keys.
+ *
+ * <p>Nested objects contribute their field names joined with {@code .} ({@code db.pool.size}), and array
+ * elements contribute their index in brackets ({@code servers[0].host}). Only the current key path is kept
+ * while parsing, so memory use is proportional to the resulting map rather than to a document tree.
+ * {@code null} values are skipped.</p>
+ *
+ * <p>When merge keys are enabled, the value of a {@code <<} key is merged into the enclosing object instead
+ * of being nested under it, following YAML's merge key semantics: keys that are set explicitly take
+ * precedence over merged ones.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class DocumentFlattener {
+    private static final String MERGE_KEY = "<<";
+    private static final int OBJECT = -1;
+
+    private final boolean mergeKeys;
+    private final Map<String, String> values = new HashMap<>();
+    private final StringBuilder path = new StringBuilder();
+
+    private int depth;
+    private int[] bases = new int[16];
+    private int[] indexes = new int[16];
+    private boolean[] keyPending = new boolean[16];
+    private boolean[] mergePending = new boolean[16];
+    private boolean[] merging = new boolean[16];
+    private int mergeDepth;
+
+    /**
+     * Constructs a {@code DocumentFlattener}.
+     *
+     * @param mergeKeys Whether {@code <<} keys should be treated as YAML merge keys.
+     */
+    DocumentFlattener(boolean mergeKeys) {
+        this.mergeKeys = mergeKeys;
+    }
+
+    /**
+     * Starts an object, either as the document root or as the current value.
+     *
+     * @throws IOException If an object is not allowed at this position.
+     */
+    void startObject() throws IOException {
+        push(OBJECT, beginValue(true));
+    }
+
+    /**
+     * Starts an array as the current value.
+     *
+     * @throws IOException If an array is not allowed at this position.
+     */
+    void startArray() throws IOException {
+        push(0, beginValue(false));
+    }
+
+    /**
+     * Ends the innermost object or array.
+     */
+    void end() {
+        depth--;
+        if (merging[depth]) {
+            mergeDepth--;
+        }
+    }
+
+    /**
+     * Sets the key of the next value in the innermost object.
+     *
+     * @param name The field name.
+     */
+    void key(String name) {
+        int top = depth - 1;
+        if (mergeKeys && MERGE_KEY.equals(name)) {
+            mergePending[top] = true;
+            return;
+        }
+        path.setLength(bases[top]);
+        if (bases[top] > 0) {
+            path.append('.');
+        }
+        path.append(name);
+        keyPending[top] = true;
+    }
+
+    /**
+     * Adds a scalar value at the current key path.
+     *
+     * @param value The value, or {@code null} to skip the key.
+     * @throws IOException If a scalar is not allowed at this position.
+     */
+    void scalar(String value) throws IOException {
+        if (depth == 0) {
+            if (value == null) {
+                return;
+            }
+            throw new IOException("Expected an object at the top level of the document");
+        }
+        if (beginValue(false)) {
+            throw new IOException("Merge key value must be an object: " + path);
+        }
+        if (value != null) {
+            if (mergeDepth > 0) {
+                values.putIfAbsent(path.toString(), value);
+            } else {
+                values.put(path.toString(), value);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the next scalar is a key of the innermost object rather than a value.
+     *
+     * @return {@code true} if a key is expected.
+     */
+    boolean expectsKey() {
+        int top = depth - 1;
+        return top >= 0 && indexes[top] == OBJECT && !keyPending[top] && !mergePending[top];
+    }
+
+    /**
+     * Returns the flattened values.
+     *
+     * @return A new map owned by the caller.
+     */
+    Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Positions the key path on the value that is about to start.
+     *
+     * @param object Whether the value is an object.
+     * @return {@code true} if the value is merged into the enclosing object instead of being nested.
+     */
+    private boolean beginValue(boolean object) throws IOException {
+        if (depth == 0) {
+            if (!object) {
+                throw new IOException("Expected an object at the top level of the document");
+            }
+            return false;
+        }
+        int top = depth - 1;
+        if (indexes[top] == OBJECT) {
+            if (mergePending[top]) {
+                mergePending[top] = false;
+                return true;
+            }
+            if (!keyPending[top]) {
+                throw new IOException("Expected a key at " + path);
+            }
+            keyPending[top] = false;
+            return false;
+        }
+        if (merging[top]) {
+            // An element of a merge list: every element is merged into the enclosing object.
+            return true;
+        }
+        path.setLength(bases[top]);
+        path.append('[').append(indexes[top]++).append(']');
+        return false;
+    }
+
+    private void push(int index, boolean merge) {
+        if (depth == bases.length) {
+            int capacity = depth * 2;
+            bases = Arrays.copyOf(bases, capacity);
+            indexes = Arrays.copyOf(indexes, capacity);
+            keyPending = Arrays.copyOf(keyPending, capacity);
+            mergePending = Arrays.copyOf(mergePending, capacity);
+            merging = Arrays.copyOf(merging, capacity);
+        }
+        bases[depth] = merge ? bases[depth - 1] : path.length();
+        indexes[depth] = index;
+        keyPending[depth] = false;
+        mergePending[depth] = false;
+        merging[depth] = merge;
+        if (merge) {
+            mergeDepth++;
+        }
+        depth++;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.format;
+
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.util.CompactStringMap;
+import dev.revere.configmanager.util.StringPool;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Base class for file-backed {@code ConfigSource} implementations.
+ *
+ * <p>Each call to {@link #load()} parses the file into a fresh map and publishes it atomically once parsing
+ * has completed. Readers never observe a partially loaded file: they either see the previous contents or the
+ * new ones, without taking any lock.</p>
+ *
+ * <p>Loaded values are stored in a {@link CompactStringMap}, and keys and values are deduplicated through
+ * {@link StringPool#SHARED}, so that many files with largely identical contents, such as per-profile overrides,
+ * share their strings instead of each holding a copy.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public abstract class FileConfigSource implements ConfigSource {
+    private final File file;
+    private volatile Map<String, String> values = Map.of();
+    private volatile StringPool stringPool = StringPool.SHARED;
+
+    /**
+     * Constructs a {@code FileConfigSource} for the specified file.
+     *
+     * @param file The file to load configuration from.
+     */
+    protected FileConfigSource(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Parses the configuration file into a new map.
+     *
+     * <p>Implementations must return a map that is not shared with any other state, as it is published
+     * to readers as-is.</p>
+     *
+     * @param file The file to parse.
+     * @return The parsed configuration.
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    protected abstract Map<String, String> parse(File file) throws IOException;
+
+    /**
+     * Parses the file and replaces the currently published configuration.
+     *
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    @Override
+    public void load() throws IOException {
+        StringPool pool = stringPool;
+        Map<String, String> parsed = parse(file);
+        values = pool != null ? CompactStringMap.copyOf(parsed, pool) : Collections.unmodifiableMap(parsed);
+    }
+
+    /**
+     * Sets the pool used to deduplicate the keys and values of this source. Takes effect on the next
+     * {@link #load()}.
+     *
+     * @param stringPool The pool to use, or {@code null} to keep the parsed map as it is without deduplication.
+     */
+    public void setStringPool(StringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the loaded configuration.
+     *
+     * @param key The key to search for.
+     * @return The value associated with the key, or {@code null} if the key does not exist.
+     */
+    @Override
+    public String getValue(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns all key/value pairs loaded from the file.
+     *
+     * <p>The returned map is an immutable snapshot; later reloads publish a new map rather than modifying it.</p>
+     *
+     * @return An unmodifiable view of the loaded configuration.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the file this source loads from.
+     *
+     * @return The configuration file.
+     */
+    public File getFile() {
+        return file;
+    }
+}
\ No newline at end of file
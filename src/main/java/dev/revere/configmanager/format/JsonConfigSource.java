@@ -23,9 +23,9 @@
  */
 package dev.revere.configmanager.format;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import dev.revere.configmanager.ConfigSource;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import java.io.File;
 import java.io.IOException;
@@ -34,15 +34,19 @@ import java.util.Map;
 /**
  * {@code ConfigSource} implementation for JSON files.
  *
- * <p>This class loads configuration data from a JSON file using Jackson's ObjectMapper and provides access to the configuration values.</p>
+ * <p>This class loads configuration data from a JSON file and provides access to the configuration values.</p>
+ *
+ * <p>The file is read with Jackson's streaming {@link JsonParser} in a single pass, without building an object
+ * tree. Nested objects are flattened into dotted keys ({@code db.pool.size}) and array elements are addressed
+ * by index ({@code servers[0].host}). Numbers and booleans are kept in their textual form and {@code null}
+ * values are skipped.</p>
  *
  * @author Remi
  * @project java-config-system
  * @date 8/19/2024
  */
-public class JsonConfigSource implements ConfigSource {
-    private final File file;
-    private Map<String, String> configMap;
+public class JsonConfigSource extends FileConfigSource {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     /**
      * Constructs a {@code JsonConfigSource} with the specified file.
@@ -50,28 +54,49 @@ public class JsonConfigSource implements ConfigSource {
      * @param file The JSON file to load configuration from.
      */
     public JsonConfigSource(File file) {
-        this.file = file;
+        super(file);
     }
 
     /**
-     * Loads configuration data from the JSON file into the internal {@code Map}.
+     * Parses the JSON file into a new map of flattened keys.
      *
-     * @throws IOException If an I/O error occurs while reading the file.
+     * @param file The file to parse.
+     * @return The parsed configuration.
+     * @throws IOException If an I/O error occurs while reading the file or the JSON is invalid.
      */
     @Override
-    public void load() throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        configMap = mapper.readValue(file, new TypeReference<Map<String, String>>() {});
+    protected Map<String, String> parse(File file) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(file)) {
+            return flatten(parser);
+        }
     }
 
     /**
-     * Retrieves the value associated with the specified key from the loaded configuration.
+     * Parses an in-memory JSON document into a new map of flattened keys, as for a file.
      *
-     * @param key The key to search for.
-     * @return The value associated with the key, or {@code null} if the key does not exist.
+     * @param content The UTF-8 encoded document.
+     * @return The parsed configuration.
+     * @throws IOException If the JSON is invalid.
      */
-    @Override
-    public String getValue(String key) {
-        return configMap.get(key);
+    public static Map<String, String> parse(byte[] content) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            return flatten(parser);
+        }
+    }
+
+    private static Map<String, String> flatten(JsonParser parser) throws IOException {
+        DocumentFlattener flattener = new DocumentFlattener(false);
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case START_OBJECT -> flattener.startObject();
+                case START_ARRAY -> flattener.startArray();
+                case END_OBJECT, END_ARRAY -> flattener.end();
+                case FIELD_NAME -> flattener.key(parser.currentName());
+                case VALUE_NULL -> flattener.scalar(null);
+                default -> flattener.scalar(parser.getText());
+            }
+        }
+        return flattener.getValues();
     }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.format;
+
+import dev.revere.configmanager.ConfigSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ConfigSource} implementation for binary configuration files produced by {@link BinaryConfigCompiler}.
+ *
+ * <p>The file is memory-mapped with {@link FileChannel#map} and lookups read straight from the mapping through
+ * its hash index, so loading costs little more than validating the header and the configuration does not have
+ * to be materialized on the heap. Only the value being returned is decoded.</p>
+ *
+ * <p>The source is not enumerable by default: {@link #getValues()} throws {@link UnsupportedOperationException},
+ * so a {@code ConfigManager} queries the mapping on every lookup instead of copying the whole file onto the heap
+ * when it publishes a snapshot. This applies to both lookup modes. The trade-off is that snapshots containing
+ * this source cannot be merged into an index or diffed key by key. Call {@link #setEnumerable(boolean)} to opt
+ * into enumeration, or {@link #decodeValues()} to decode the file once explicitly.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class MappedConfigSource implements ConfigSource {
+    private final File file;
+    private volatile ByteBuffer buffer;
+    private volatile boolean enumerable;
+
+    /**
+     * Constructs a {@code MappedConfigSource} with the specified file.
+     *
+     * @param file The compiled configuration file to map.
+     */
+    public MappedConfigSource(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Maps the compiled file into memory and validates its header.
+     *
+     * @throws IOException If the file cannot be mapped or is not a compiled configuration file.
+     */
+    @Override
+    public void load() throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.capacity() < BinaryConfigCompiler.HEADER_SIZE
+                || mapped.getInt(0) != BinaryConfigCompiler.MAGIC) {
+            throw new IOException("Not a compiled configuration file: " + file);
+        }
+        if (mapped.getInt(4) != BinaryConfigCompiler.VERSION) {
+            throw new IOException("Unsupported compiled configuration version " + mapped.getInt(4) + ": " + file);
+        }
+        int slotCount = mapped.getInt(12);
+        if (Integer.bitCount(slotCount) != 1
+                || BinaryConfigCompiler.HEADER_SIZE + (long) slotCount * Integer.BYTES > mapped.capacity()) {
+            throw new IOException("Corrupt compiled configuration file: " + file);
+        }
+        buffer = mapped;
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the mapped file.
+     *
+     * @param key The key to search for.
+     * @return The value associated with the key, or {@code null} if the key does not exist.
+     */
+    @Override
+    public String getValue(String key) {
+        ByteBuffer mapped = buffer;
+        if (mapped == null) {
+            return null;
+        }
+        int hash = key.hashCode();
+        int mask = mapped.getInt(12) - 1;
+        int slot = BinaryConfigCompiler.spread(hash) & mask;
+        while (true) {
+            int offset = mapped.getInt(BinaryConfigCompiler.HEADER_SIZE + slot * Integer.BYTES);
+            if (offset == BinaryConfigCompiler.EMPTY_SLOT) {
+                return null;
+            }
+            if (mapped.getInt(offset) == hash) {
+                int keyLength = mapped.getInt(offset + 4);
+                int keyStart = offset + 8;
+                if (keyEquals(mapped, keyStart, keyLength, key)) {
+                    int valueOffset = keyStart + keyLength;
+                    return decode(mapped, valueOffset + 4, mapped.getInt(valueOffset));
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns every entry of the mapped file, if enumeration has been enabled with {@link #setEnumerable(boolean)}.
+     *
+     * @return The configuration stored in the file.
+     * @throws UnsupportedOperationException If enumeration has not been enabled.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        if (!enumerable) {
+            throw new UnsupportedOperationException("Enumeration is disabled for mapped configuration " + file);
+        }
+        return decodeValues();
+    }
+
+    /**
+     * Decodes every entry of the mapped file into a new map.
+     *
+     * @return The configuration stored in the file.
+     */
+    public Map<String, String> decodeValues() {
+        ByteBuffer mapped = buffer;
+        Map<String, String> values = new HashMap<>();
+        if (mapped == null) {
+            return values;
+        }
+        int entryCount = mapped.getInt(8);
+        int offset = BinaryConfigCompiler.HEADER_SIZE + mapped.getInt(12) * Integer.BYTES;
+        for (int i = 0; i < entryCount; i++) {
+            int keyLength = mapped.getInt(offset + 4);
+            String key = decode(mapped, offset + 8, keyLength);
+            int valueOffset = offset + 8 + keyLength;
+            int valueLength = mapped.getInt(valueOffset);
+            values.put(key, decode(mapped, valueOffset + 4, valueLength));
+            offset = valueOffset + 4 + valueLength;
+        }
+        return values;
+    }
+
+    /**
+     * Sets whether {@link #getValues()} decodes the file. When enabled, a {@code ConfigManager} copies the whole
+     * file onto the heap every time it publishes a snapshot.
+     *
+     * @param enumerable {@code true} to allow enumeration.
+     */
+    public void setEnumerable(boolean enumerable) {
+        this.enumerable = enumerable;
+    }
+
+    /**
+     * Compares a stored UTF-8 key with the requested key without allocating for ASCII keys.
+     */
+    private static boolean keyEquals(ByteBuffer mapped, int start, int length, String key) {
+        if (length < key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                return decode(mapped, start, length).equals(key);
+            }
+            if (i >= length || mapped.get(start + i) != c) {
+                return false;
+            }
+        }
+        return length == key.length();
+    }
+
+    private static String decode(ByteBuffer mapped, int start, int length) {
+        byte[] bytes = new byte[length];
+        mapped.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -23,11 +23,11 @@
  */
 package dev.revere.configmanager.format;
 
-import dev.revere.configmanager.ConfigSource;
-
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -39,10 +39,7 @@ import java.util.Properties;
  * @project java-config-system
  * @date 8/19/2024
  */
-public class PropertiesConfigSource implements ConfigSource {
-
-    private final File file;
-    private final Properties properties = new Properties();
+public class PropertiesConfigSource extends FileConfigSource {
 
     /**
      * Constructs a {@code PropertiesConfigSource} with the specified file.
@@ -50,29 +47,29 @@ public class PropertiesConfigSource implements ConfigSource {
      * @param file The properties file to load configuration from.
      */
     public PropertiesConfigSource(File file) {
-        this.file = file;
+        super(file);
     }
 
     /**
-     * Loads configuration data from the properties file into the internal {@code Properties} object.
+     * Parses the properties file into a new map.
+     *
+     * <p>A fresh {@code Properties} object is used for every load, so keys removed from the file
+     * do not linger after a reload.</p>
      *
+     * @param file The file to parse.
+     * @return The parsed configuration.
      * @throws IOException If an I/O error occurs while reading the file.
      */
     @Override
-    public void load() throws IOException {
+    protected Map<String, String> parse(File file) throws IOException {
+        Properties properties = new Properties();
         try (FileInputStream fis = new FileInputStream(file)) {
             properties.load(fis);
         }
-    }
-
-    /**
-     * Retrieves the value associated with the specified key from the loaded configuration.
-     *
-     * @param key The key to search for.
-     * @return The value associated with the key, or {@code null} if the key does not exist.
-     */
-    @Override
-    public String getValue(String key) {
-        return properties.getProperty(key);
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return values;
     }
 }
\ No newline at end of file
@@ -23,58 +23,187 @@
  */
 package dev.revere.configmanager.format;
 
-import dev.revere.configmanager.ConfigSource;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.reader.UnicodeReader;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code ConfigSource} implementation for YAML configuration files.
  *
  * <p>This class loads configuration data from a YAML file and provides access to the configuration values.</p>
  *
+ * <p>The file is read through SnakeYAML's event API in a single pass, without composing a node tree. Nested
+ * mappings are flattened into dotted keys ({@code db.pool.size}) and sequence elements are addressed by index
+ * ({@code servers[0].host}). Scalars are kept in their textual form and {@code null} values are skipped.
+ * Anchors, aliases and {@code <<} merge keys are supported; only anchored collections are buffered so they
+ * can be replayed. Only the first document in the file is read.</p>
+ *
+ * <p>Because aliases are expanded rather than shared, untrusted files are bounded in two ways: the number of
+ * aliases to collections may not exceed {@link LoaderOptions#getMaxAliasesForCollections()}, as when SnakeYAML
+ * composes a document, and aliases may replay at most 100,000 events in total, which
+ * rejects nested alias bombs that stay under the alias limit.</p>
+ *
  * @author Remi
  * @project java-config-system
  * @date 8/19/2024
  */
-public class YamlConfigSource implements ConfigSource {
+public class YamlConfigSource extends FileConfigSource {
+    private static final Set<String> NULL_VALUES = Set.of("", "~", "null", "Null", "NULL");
+    private static final int MAX_REPLAYED_EVENTS = 100_000;
 
-    private final File file;
-    private Map<String, String> configMap;
+    private final LoaderOptions options;
 
     /**
-     * Constructs a {@code YamlConfigSource} with the specified file.
+     * Constructs a {@code YamlConfigSource} with the specified file and SnakeYAML's default loader options.
      *
      * @param file The YAML file to load configuration from.
      */
     public YamlConfigSource(File file) {
-        this.file = file;
+        this(file, new LoaderOptions());
     }
 
     /**
-     * Loads configuration data from the YAML file into the internal map.
+     * Constructs a {@code YamlConfigSource} with the specified file and loader options.
      *
-     * @throws IOException If an I/O error occurs while reading the file.
+     * @param file    The YAML file to load configuration from.
+     * @param options The options the parser is built with, including the alias limit.
      */
-    @Override
-    public void load() throws IOException {
-        Yaml yaml = new Yaml();
-        try (FileInputStream fis = new FileInputStream(file)) {
-            configMap = yaml.load(fis);
-        }
+    public YamlConfigSource(File file, LoaderOptions options) {
+        super(file);
+        this.options = options;
     }
 
     /**
-     * Retrieves the value associated with the specified key from the loaded configuration.
+     * Parses the YAML file into a new map of flattened keys.
      *
-     * @param key The key to search for.
-     * @return The value associated with the key, or {@code null} if the key does not exist.
+     * @param file The file to parse.
+     * @return The parsed configuration.
+     * @throws IOException If an I/O error occurs while reading the file or the YAML is invalid.
      */
     @Override
-    public String getValue(String key) {
-        return configMap.get(key);
+    protected Map<String, String> parse(File file) throws IOException {
+        EventFlattener flattener = new EventFlattener(options.getMaxAliasesForCollections());
+        try (Reader reader = new UnicodeReader(new FileInputStream(file))) {
+            for (Event event : new Yaml(options).parse(reader)) {
+                if (event instanceof DocumentEndEvent) {
+                    break;
+                }
+                flattener.accept(event);
+            }
+        } catch (YAMLException e) {
+            throw new IOException("Invalid YAML in " + file, e);
+        }
+        return flattener.flattener.getValues();
+    }
+
+    /**
+     * Feeds parser events into a {@link DocumentFlattener}, recording anchored collections so that aliases
+     * referring to them can be replayed.
+     */
+    private static final class EventFlattener {
+        private final DocumentFlattener flattener = new DocumentFlattener(true);
+        private final Map<String, List<Event>> anchors = new HashMap<>();
+        private final List<Recording> recordings = new ArrayList<>();
+        private final int maxAliases;
+        private int aliases;
+        private int replayedEvents;
+
+        EventFlattener(int maxAliases) {
+            this.maxAliases = maxAliases;
+        }
+
+        void accept(Event event) throws IOException {
+            if (event instanceof AliasEvent alias) {
+                List<Event> events = anchors.get(alias.getAnchor());
+                if (events != null && events.get(0) instanceof CollectionStartEvent && ++aliases > maxAliases) {
+                    throw new IOException("Number of aliases for non-scalar nodes exceeds the specified max="
+                            + maxAliases);
+                }
+            }
+            record(event);
+            apply(event);
+        }
+
+        private void record(Event event) {
+            for (Iterator<Recording> iterator = recordings.iterator(); iterator.hasNext(); ) {
+                Recording recording = iterator.next();
+                recording.events.add(event);
+                if (event instanceof CollectionStartEvent) {
+                    recording.depth++;
+                } else if (event instanceof CollectionEndEvent && --recording.depth == 0) {
+                    anchors.put(recording.anchor, recording.events);
+                    iterator.remove();
+                }
+            }
+            if (event instanceof CollectionStartEvent start && start.getAnchor() != null) {
+                Recording recording = new Recording(start.getAnchor());
+                recording.events.add(event);
+                recordings.add(recording);
+            } else if (event instanceof ScalarEvent scalar && scalar.getAnchor() != null) {
+                anchors.put(scalar.getAnchor(), List.of(event));
+            }
+        }
+
+        private void apply(Event event) throws IOException {
+            if (event instanceof MappingStartEvent) {
+                flattener.startObject();
+            } else if (event instanceof SequenceStartEvent) {
+                flattener.startArray();
+            } else if (event instanceof CollectionEndEvent) {
+                flattener.end();
+            } else if (event instanceof ScalarEvent scalar) {
+                if (flattener.expectsKey()) {
+                    flattener.key(scalar.getValue());
+                } else {
+                    flattener.scalar(isNull(scalar) ? null : scalar.getValue());
+                }
+            } else if (event instanceof AliasEvent alias) {
+                List<Event> events = anchors.get(alias.getAnchor());
+                if (events == null) {
+                    throw new IOException("Unknown YAML anchor: " + alias.getAnchor());
+                }
+                replayedEvents += events.size();
+                if (replayedEvents > MAX_REPLAYED_EVENTS) {
+                    throw new IOException("YAML aliases expand to more than " + MAX_REPLAYED_EVENTS + " events");
+                }
+                for (Event replayed : events) {
+                    apply(replayed);
+                }
+            }
+        }
+
+        private static boolean isNull(ScalarEvent scalar) {
+            return scalar.isPlain() && NULL_VALUES.contains(scalar.getValue());
+        }
+    }
+
+    private static final class Recording {
+        private final String anchor;
+        private final List<Event> events = new ArrayList<>();
+        private int depth = 1;
+
+        Recording(String anchor) {
+            this.anchor = anchor;
+        }
     }
-}
\ No newline at end of file
+}
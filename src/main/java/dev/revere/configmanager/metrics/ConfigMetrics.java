@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.metrics;
+
+import dev.revere.configmanager.ConfigSource;
+
+/**
+ * Receives instrumentation callbacks from a {@link dev.revere.configmanager.ConfigManager}.
+ *
+ * <p>Every method has an empty default, so implementations override only what they need. Lookup callbacks run
+ * on the reader's thread for every value read and must be cheap and non-blocking. The manager skips them
+ * entirely when {@link #NOOP} is installed, so the default costs a single null check per lookup.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ * @see CounterMetrics
+ * @see JfrConfigMetrics
+ */
+public interface ConfigMetrics {
+    /**
+     * Metrics that discard every callback. This is the default.
+     */
+    ConfigMetrics NOOP = new ConfigMetrics() {
+    };
+
+    /**
+     * Called after a value has been looked up.
+     *
+     * @param key    The requested key.
+     * @param source The source that served the value, or {@code null} if the key was not found.
+     * @param hit    Whether a value was found.
+     */
+    default void recordLookup(String key, ConfigSource source, boolean hit) {
+    }
+
+    /**
+     * Called after a source has been loaded by the manager.
+     *
+     * @param source  The source.
+     * @param nanos   How long the load took.
+     * @param failure The exception the load failed with, or {@code null} if it succeeded.
+     */
+    default void recordLoad(ConfigSource source, long nanos, Throwable failure) {
+    }
+
+    /**
+     * Called after the manager has decrypted an encrypted value. Values served from the decryption cache, and
+     * direct calls to {@link dev.revere.configmanager.encryption.ConfigEncryptor}, are not reported.
+     *
+     * @param nanos How long the decryption took.
+     */
+    default void recordDecrypt(long nanos) {
+    }
+
+    /**
+     * Called after a snapshot has been validated.
+     *
+     * @param violations The number of violations found.
+     * @param nanos      How long the validation took.
+     */
+    default void recordValidation(int violations, long nanos) {
+    }
+
+    /**
+     * Called after a new snapshot has been published.
+     *
+     * @param version The version of the published snapshot.
+     * @param nanos   How long building, validating and publishing the snapshot took.
+     */
+    default void recordPublish(long version, long nanos) {
+    }
+}
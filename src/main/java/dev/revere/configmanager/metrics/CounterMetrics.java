@@ -0,0 +1,280 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.metrics;
+
+import dev.revere.configmanager.ConfigSource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ConfigMetrics} implementation that aggregates callbacks into striped counters.
+ *
+ * <p>Counters are {@link LongAdder}s, so concurrent readers recording lookups do not contend on a shared cache
+ * line. Lookups are counted but not timed, because reading the clock would cost more than the lookup itself.
+ * Loads, decryptions, validations and publications can additionally be recorded in {@link LatencyHistogram}s.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class CounterMetrics implements ConfigMetrics {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<ConfigSource, LongAdder> sourceHits = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final Map<ConfigSource, Long> lastLoadNanos = new ConcurrentHashMap<>();
+    private final LongAdder decrypts = new LongAdder();
+    private final LongAdder validations = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+    private final LongAdder publishes = new LongAdder();
+    private final LatencyHistogram loadLatency;
+    private final LatencyHistogram decryptLatency;
+    private final LatencyHistogram validationLatency;
+    private final LatencyHistogram publishLatency;
+
+    /**
+     * Constructs a {@code CounterMetrics} that keeps counters only.
+     */
+    public CounterMetrics() {
+        this(false);
+    }
+
+    /**
+     * Constructs a {@code CounterMetrics}.
+     *
+     * @param histograms Whether to record the latencies of loads, decryptions, validations and publications.
+     */
+    public CounterMetrics(boolean histograms) {
+        this.loadLatency = histograms ? new LatencyHistogram() : null;
+        this.decryptLatency = histograms ? new LatencyHistogram() : null;
+        this.validationLatency = histograms ? new LatencyHistogram() : null;
+        this.publishLatency = histograms ? new LatencyHistogram() : null;
+    }
+
+    @Override
+    public void recordLookup(String key, ConfigSource source, boolean hit) {
+        if (!hit) {
+            misses.increment();
+            return;
+        }
+        hits.increment();
+        if (source != null) {
+            LongAdder counter = sourceHits.get(source);
+            if (counter == null) {
+                counter = sourceHits.computeIfAbsent(source, ignored -> new LongAdder());
+            }
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void recordLoad(ConfigSource source, long nanos, Throwable failure) {
+        loads.increment();
+        if (failure != null) {
+            loadFailures.increment();
+        }
+        lastLoadNanos.put(source, nanos);
+        record(loadLatency, nanos);
+    }
+
+    @Override
+    public void recordDecrypt(long nanos) {
+        decrypts.increment();
+        record(decryptLatency, nanos);
+    }
+
+    @Override
+    public void recordValidation(int violationCount, long nanos) {
+        validations.increment();
+        violations.add(violationCount);
+        record(validationLatency, nanos);
+    }
+
+    @Override
+    public void recordPublish(long version, long nanos) {
+        publishes.increment();
+        record(publishLatency, nanos);
+    }
+
+    /**
+     * Returns the number of lookups.
+     *
+     * @return The lookup count.
+     */
+    public long getLookups() {
+        return hits.sum() + misses.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found a value.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no value.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that found no value.
+     *
+     * @return The miss ratio between {@code 0} and {@code 1}, or {@code 0} if no lookup has been made.
+     */
+    public double getMissRatio() {
+        long missCount = misses.sum();
+        long total = hits.sum() + missCount;
+        return total == 0 ? 0 : (double) missCount / total;
+    }
+
+    /**
+     * Returns how many lookups each source has served.
+     *
+     * @return A copy of the hit count per source.
+     */
+    public Map<ConfigSource, Long> getSourceHits() {
+        Map<ConfigSource, Long> counts = new HashMap<>();
+        sourceHits.forEach((source, counter) -> counts.put(source, counter.sum()));
+        return counts;
+    }
+
+    /**
+     * Returns the number of source loads, including failed ones.
+     *
+     * @return The load count.
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns the number of source loads that failed.
+     *
+     * @return The failed load count.
+     */
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    /**
+     * Returns how long the most recent load of a source took.
+     *
+     * @param source The source.
+     * @return The load duration, or {@code null} if the source has not been loaded.
+     */
+    public Duration getLastLoadDuration(ConfigSource source) {
+        Long nanos = lastLoadNanos.get(source);
+        return nanos == null ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Returns the number of values decrypted, excluding values served from the decryption cache.
+     *
+     * @return The decryption count.
+     */
+    public long getDecrypts() {
+        return decrypts.sum();
+    }
+
+    /**
+     * Returns the number of snapshot validations.
+     *
+     * @return The validation count.
+     */
+    public long getValidations() {
+        return validations.sum();
+    }
+
+    /**
+     * Returns the total number of violations found by all validations.
+     *
+     * @return The violation count.
+     */
+    public long getViolations() {
+        return violations.sum();
+    }
+
+    /**
+     * Returns the number of snapshots published.
+     *
+     * @return The publication count.
+     */
+    public long getPublishes() {
+        return publishes.sum();
+    }
+
+    /**
+     * Returns the histogram of source load latencies.
+     *
+     * @return The histogram, or {@code null} if histograms are disabled.
+     */
+    public LatencyHistogram getLoadLatency() {
+        return loadLatency;
+    }
+
+    /**
+     * Returns the histogram of decryption latencies.
+     *
+     * @return The histogram, or {@code null} if histograms are disabled.
+     */
+    public LatencyHistogram getDecryptLatency() {
+        return decryptLatency;
+    }
+
+    /**
+     * Returns the histogram of validation latencies.
+     *
+     * @return The histogram, or {@code null} if histograms are disabled.
+     */
+    public LatencyHistogram getValidationLatency() {
+        return validationLatency;
+    }
+
+    /**
+     * Returns the histogram of publication latencies.
+     *
+     * @return The histogram, or {@code null} if histograms are disabled.
+     */
+    public LatencyHistogram getPublishLatency() {
+        return publishLatency;
+    }
+
+    private static void record(LatencyHistogram histogram, long nanos) {
+        if (histogram != null) {
+            histogram.record(nanos);
+        }
+    }
+}
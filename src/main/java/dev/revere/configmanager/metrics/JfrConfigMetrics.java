@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.metrics;
+
+import dev.revere.configmanager.ConfigSource;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * {@code ConfigMetrics} implementation that emits JDK Flight Recorder events.
+ *
+ * <p>Loads, decryptions, validations and publications are recorded as {@code dev.revere.config.*} events
+ * under the <em>Configuration</em> category. Lookup events are disabled by default because of their volume,
+ * and can be enabled in a recording's settings. An event that is not enabled in the running recording costs
+ * one check and is never allocated.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class JfrConfigMetrics implements ConfigMetrics {
+
+    @Override
+    public void recordLookup(String key, ConfigSource source, boolean hit) {
+        LookupEvent event = new LookupEvent();
+        if (event.isEnabled()) {
+            event.key = key;
+            event.source = source != null ? source.toString() : null;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordLoad(ConfigSource source, long nanos, Throwable failure) {
+        LoadEvent event = new LoadEvent();
+        if (event.isEnabled()) {
+            event.source = source.toString();
+            event.loadTime = nanos;
+            event.failure = failure != null ? failure.toString() : null;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordDecrypt(long nanos) {
+        DecryptEvent event = new DecryptEvent();
+        if (event.isEnabled()) {
+            event.decryptTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordValidation(int violations, long nanos) {
+        ValidationEvent event = new ValidationEvent();
+        if (event.isEnabled()) {
+            event.violations = violations;
+            event.validationTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordPublish(long version, long nanos) {
+        PublishEvent event = new PublishEvent();
+        if (event.isEnabled()) {
+            event.version = version;
+            event.publishTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Name("dev.revere.config.Lookup")
+    @Label("Configuration Lookup")
+    @Category("Configuration")
+    @Description("A configuration value was looked up")
+    @Enabled(false)
+    @StackTrace(false)
+    static class LookupEvent extends Event {
+        @Label("Key")
+        String key;
+
+        @Label("Source")
+        String source;
+
+        @Label("Hit")
+        boolean hit;
+    }
+
+    @Name("dev.revere.config.Load")
+    @Label("Configuration Source Load")
+    @Category("Configuration")
+    @Description("A configuration source was loaded")
+    static class LoadEvent extends Event {
+        @Label("Source")
+        String source;
+
+        @Label("Load Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long loadTime;
+
+        @Label("Failure")
+        String failure;
+    }
+
+    @Name("dev.revere.config.Decrypt")
+    @Label("Configuration Value Decryption")
+    @Category("Configuration")
+    @Description("An encrypted configuration value was decrypted")
+    @StackTrace(false)
+    static class DecryptEvent extends Event {
+        @Label("Decrypt Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long decryptTime;
+    }
+
+    @Name("dev.revere.config.Validation")
+    @Label("Configuration Validation")
+    @Category("Configuration")
+    @Description("A configuration snapshot was validated")
+    static class ValidationEvent extends Event {
+        @Label("Violations")
+        int violations;
+
+        @Label("Validation Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long validationTime;
+    }
+
+    @Name("dev.revere.config.Publish")
+    @Label("Configuration Publish")
+    @Category("Configuration")
+    @Description("A new configuration snapshot was published")
+    static class PublishEvent extends Event {
+        @Label("Version")
+        long version;
+
+        @Label("Publish Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long publishTime;
+    }
+}
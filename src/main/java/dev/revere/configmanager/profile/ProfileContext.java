@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.profile;
+
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.util.CompactStringMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, flattened view of a stack of profiles.
+ *
+ * <p>A context is obtained from {@link ProfileManager#context(String...)} and can be shared freely between
+ * threads. Requests that need different profiles, such as per-tenant or A/B traffic, can each hold their own
+ * context, or bind it to the current thread with {@link ProfileManager#runWithProfiles(ProfileContext, Runnable)},
+ * without changing the profiles that are active globally.</p>
+ *
+ * <p>Consecutive profiles that can enumerate their values are merged into a single map when the stack is
+ * resolved, so a stack made only of such profiles answers every lookup with one hash probe. Profiles that
+ * cannot enumerate their values are kept as separate layers and queried in priority order.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class ProfileContext {
+    static final ProfileContext EMPTY = new ProfileContext(List.of(), new Object[0], Set.of(), true);
+
+    private final List<String> names;
+    private final Object[] layers;
+    private final Set<String> keys;
+    private final boolean enumerable;
+
+    private ProfileContext(List<String> names, Object[] layers, Set<String> keys, boolean enumerable) {
+        this.names = names;
+        this.layers = layers;
+        this.keys = keys;
+        this.enumerable = enumerable;
+    }
+
+    /**
+     * Flattens a stack of loaded profiles.
+     *
+     * @param names    The profile names, from lowest to highest priority.
+     * @param profiles The loaded profiles, in the same order.
+     * @return The resolved stack.
+     */
+    static ProfileContext of(List<String> names, List<LoadedProfile> profiles) {
+        List<Object> layers = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        boolean enumerable = true;
+        Map<String, String> merged = null;
+        for (int i = profiles.size() - 1; i >= 0; i--) {
+            LoadedProfile profile = profiles.get(i);
+            if (profile.values() == null) {
+                if (merged != null) {
+                    layers.add(CompactStringMap.copyOf(merged, null));
+                    merged = null;
+                }
+                layers.add(profile.source());
+                enumerable = false;
+                continue;
+            }
+            if (merged == null) {
+                merged = new HashMap<>();
+            }
+            for (Map.Entry<String, String> entry : profile.values().entrySet()) {
+                if (entry.getValue() != null) {
+                    merged.putIfAbsent(entry.getKey(), entry.getValue());
+                    keys.add(entry.getKey());
+                }
+            }
+        }
+        if (merged != null) {
+            layers.add(CompactStringMap.copyOf(merged, null));
+        }
+        return new ProfileContext(List.copyOf(names), layers.toArray(), Set.copyOf(keys), enumerable);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the highest-priority profile that defines it.
+     *
+     * @param key The key to search for.
+     * @return The value of the key, or {@code null} if no profile in the stack defines it.
+     */
+    @SuppressWarnings("unchecked")
+    public String getValue(String key) {
+        for (Object layer : layers) {
+            String value = layer instanceof ConfigSource source
+                    ? source.getValue(key)
+                    : ((Map<String, String>) layer).get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the names of the profiles in the stack, from lowest to highest priority.
+     *
+     * @return An immutable list of the profile names.
+     */
+    public List<String> getProfiles() {
+        return names;
+    }
+
+    /**
+     * Returns the keys of every profile in the stack that can enumerate its values.
+     */
+    Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns whether every profile in the stack can enumerate its values.
+     */
+    boolean isEnumerable() {
+        return enumerable;
+    }
+
+    /**
+     * A profile source together with the values captured right after it was loaded.
+     *
+     * @param source The profile source.
+     * @param values The captured values, or {@code null} if the source cannot enumerate them.
+     */
+    record LoadedProfile(ConfigSource source, Map<String, String> values) {
+    }
+}
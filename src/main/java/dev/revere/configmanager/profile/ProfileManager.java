@@ -24,37 +24,81 @@
 package dev.revere.configmanager.profile;
 
 import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.event.ConfigChangeListener;
+import dev.revere.configmanager.event.ListenerRegistry;
+import dev.revere.configmanager.event.Subscription;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages and activates configuration profiles.
  *
  * <p>This class allows adding, activating, and retrieving values from configuration profiles.</p>
  *
+ * <p>Several profiles can be active at once, for example {@code base}, {@code eu-west}, {@code prod} and
+ * {@code canary}. Later profiles in the stack override earlier ones. The stack is flattened when it is
+ * activated, so {@link #getProfileValue(String)} does not walk the individual profiles. Each profile is loaded
+ * the first time it is activated; activating it again reuses the values parsed then until
+ * {@link #reloadProfile(String)} is called.</p>
+ *
+ * <p>The manager is thread-safe. Besides the globally active stack, any stack can be resolved into a
+ * {@link ProfileContext} with {@link #context(String...)}. Resolved contexts are cached, so resolving the same
+ * stack again is a lock-free map lookup. The cache holds up to 256 stacks by default, so stacks assembled
+ * dynamically per request cannot grow it without bound. Beyond that, the least recently used stacks are evicted,
+ * approximately: a stack resolved again since it was cached gets a second chance. A context can be used
+ * directly or bound to the current thread for the duration of a request with
+ * {@link #runWithProfiles(ProfileContext, Runnable)}, in which case {@link #getProfileValue(String)} resolves
+ * against it instead of the active stack. Neither affects other threads.</p>
+ *
+ * <p>Listeners subscribed to keys or namespaces are notified of the values that differ between the previously
+ * active profiles and the newly activated ones.</p>
+ *
  * @author Remi
  * @project java-config-system
  * @date 8/19/2024
  */
 public class ProfileManager {
+    private static final int DEFAULT_MAX_CACHED_CONTEXTS = 256;
 
-    private final Map<String, ConfigSource> profiles = new HashMap<>();
-    private ConfigSource activeProfile;
+    private final Map<String, ConfigSource> profiles = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ProfileContext.LoadedProfile>> loadedProfiles =
+            new ConcurrentHashMap<>();
+    private final Map<List<String>, CachedContext> contexts = new ConcurrentHashMap<>();
+    private final AtomicLong contextSequence = new AtomicLong();
+    private final ThreadLocal<ProfileContext> boundContext = new ThreadLocal<>();
+    private final ListenerRegistry listeners = new ListenerRegistry();
+    private volatile ProfileContext active = ProfileContext.EMPTY;
+    private volatile long generation;
+    private volatile int maxCachedContexts = DEFAULT_MAX_CACHED_CONTEXTS;
 
     /**
      * Adds a configuration profile to the manager.
      *
+     * <p>Replacing a profile discards its cached values. A stack that is already active keeps using the old
+     * values until it is activated again.</p>
+     *
      * @param name   The name of the profile.
      * @param source The source of the profile.
      */
-    public void addProfile(String name, ConfigSource source) {
+    public synchronized void addProfile(String name, ConfigSource source) {
         profiles.put(name, source);
+        loadedProfiles.remove(name);
+        generation++;
     }
 
     /**
-     * Activates the specified profile.
+     * Activates the specified profile on its own.
      *
      * <p>The profile must be added to the manager before activation. Loading the profile might
      * throw an {@code IOException} if there are issues with the source.</p>
@@ -63,19 +107,299 @@ public class ProfileManager {
      * @throws IOException If the profile could not be loaded.
      */
     public void activateProfile(String name) throws IOException {
-        activeProfile = profiles.get(name);
-        activeProfile.load();
+        activateProfiles(name);
     }
 
     /**
-     * Retrieves the value associated with the specified key from the active profile.
+     * Activates a stack of profiles, from lowest to highest priority.
      *
-     * <p>Returns {@code null} if the key does not exist in the active profile.</p>
+     * <p>Profiles that have not been loaded yet are loaded first. If any of them fails to load, the previously
+     * active stack stays in place.</p>
+     *
+     * @param names The names of the profiles to activate. Later profiles override earlier ones.
+     * @throws IOException              If a profile could not be loaded.
+     * @throws IllegalArgumentException If a profile has not been added to the manager.
+     */
+    public synchronized void activateProfiles(String... names) throws IOException {
+        activate(context(names));
+    }
+
+    /**
+     * Loads a profile again, discarding its cached values. If the profile is part of the active stack, the
+     * stack is flattened again and listeners are notified of the changes.
+     *
+     * @param name The name of the profile to reload.
+     * @throws IOException              If the profile could not be loaded.
+     * @throws IllegalArgumentException If the profile has not been added to the manager.
+     */
+    public synchronized void reloadProfile(String name) throws IOException {
+        loadedProfiles.put(name, CompletableFuture.completedFuture(load(name)));
+        generation++;
+        List<String> names = active.getProfiles();
+        if (names.contains(name)) {
+            activate(context(names.toArray(new String[0])));
+        }
+    }
+
+    /**
+     * Resolves a stack of profiles without activating it.
+     *
+     * <p>Profiles that have not been loaded yet are loaded first. The result is cached until one of its
+     * profiles is replaced or reloaded.</p>
+     *
+     * @param names The names of the profiles, from lowest to highest priority.
+     * @return The resolved context.
+     * @throws IOException              If a profile could not be loaded.
+     * @throws IllegalArgumentException If a profile has not been added to the manager.
+     */
+    public ProfileContext context(String... names) throws IOException {
+        List<String> key = List.of(names);
+        CachedContext cached = contexts.get(key);
+        // Read before the loaded profiles, so that a concurrent reload marks what is built here as stale.
+        long current = generation;
+        if (cached != null && cached.generation == current) {
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            return cached.context;
+        }
+        List<ProfileContext.LoadedProfile> stack = new ArrayList<>(names.length);
+        for (String name : names) {
+            stack.add(loaded(name));
+        }
+        ProfileContext context = ProfileContext.of(key, stack);
+        contexts.put(key, new CachedContext(current, contextSequence.incrementAndGet(), context));
+        evictContexts(key);
+        return context;
+    }
+
+    /**
+     * Sets how many resolved stacks {@link #context(String...)} keeps cached. Defaults to 256.
+     *
+     * @param maxCachedContexts The maximum number of cached stacks.
+     * @throws IllegalArgumentException If the maximum is negative.
+     */
+    public void setMaxCachedContexts(int maxCachedContexts) {
+        if (maxCachedContexts < 0) {
+            throw new IllegalArgumentException("Maximum must not be negative: " + maxCachedContexts);
+        }
+        this.maxCachedContexts = maxCachedContexts;
+        evictContexts(null);
+    }
+
+    /**
+     * Runs a task with a context bound to the current thread. While the task runs,
+     * {@link #getProfileValue(String)} on this thread resolves against the context instead of the active stack.
+     *
+     * @param context The context to bind.
+     * @param task    The task to run.
+     */
+    public void runWithProfiles(ProfileContext context, Runnable task) {
+        ProfileContext previous = boundContext.get();
+        boundContext.set(context);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Calls a task with a context bound to the current thread. While the task runs,
+     * {@link #getProfileValue(String)} on this thread resolves against the context instead of the active stack.
+     *
+     * @param context The context to bind.
+     * @param task    The task to call.
+     * @param <T>     The result type.
+     * @return The result of the task.
+     * @throws Exception If the task throws an exception.
+     */
+    public <T> T callWithProfiles(ProfileContext context, Callable<T> task) throws Exception {
+        ProfileContext previous = boundContext.get();
+        boundContext.set(context);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Returns the context that {@link #getProfileValue(String)} currently resolves against: the context bound
+     * to the current thread, if any, or else the active stack.
+     *
+     * @return The current context.
+     */
+    public ProfileContext currentContext() {
+        ProfileContext bound = boundContext.get();
+        return bound != null ? bound : active;
+    }
+
+    /**
+     * Returns the names of the globally active profiles, from lowest to highest priority.
+     *
+     * @return An immutable list of the active profile names.
+     */
+    public List<String> getActiveProfiles() {
+        return active.getProfiles();
+    }
+
+    /**
+     * Subscribes a listener to changes of a single key caused by activating a profile.
+     *
+     * @param key      The key to watch.
+     * @param listener The listener to notify.
+     * @return The subscription, which can be closed to unsubscribe.
+     */
+    public Subscription subscribe(String key, ConfigChangeListener listener) {
+        return listeners.subscribe(key, listener);
+    }
+
+    /**
+     * Subscribes a listener to changes of every key in a namespace caused by activating a profile.
+     *
+     * @param prefix   The namespace to watch. The empty string matches every key.
+     * @param listener The listener to notify.
+     * @return The subscription, which can be closed to unsubscribe.
+     */
+    public Subscription subscribePrefix(String prefix, ConfigChangeListener listener) {
+        return listeners.subscribePrefix(prefix, listener);
+    }
+
+    /**
+     * Sets the executor that change listeners are notified on.
+     *
+     * @param executor The executor.
+     */
+    public void setListenerExecutor(Executor executor) {
+        listeners.setExecutor(executor);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the current profiles.
+     *
+     * <p>Resolves against the context bound to the current thread, if any, or else the active stack. Returns
+     * {@code null} if the key does not exist in any of those profiles.</p>
      *
      * @param key The key to search for.
      * @return The value of the key, or {@code null} if the key does not exist.
      */
     public String getProfileValue(String key) {
-        return activeProfile.getValue(key);
+        return currentContext().getValue(key);
+    }
+
+    /**
+     * Returns a loaded profile, loading it first if needed. Concurrent callers share a single load, which runs
+     * on the thread that claimed it rather than inside the map, so profiles loading at the same time do not
+     * block each other.
+     */
+    private ProfileContext.LoadedProfile loaded(String name) throws IOException {
+        CompletableFuture<ProfileContext.LoadedProfile> loading = loadedProfiles.get(name);
+        if (loading == null) {
+            CompletableFuture<ProfileContext.LoadedProfile> claimed = new CompletableFuture<>();
+            loading = loadedProfiles.putIfAbsent(name, claimed);
+            if (loading == null) {
+                try {
+                    claimed.complete(load(name));
+                } catch (IOException | RuntimeException e) {
+                    // Not cached, so the next caller tries again.
+                    loadedProfiles.remove(name, claimed);
+                    claimed.completeExceptionally(e);
+                    throw e;
+                }
+                loading = claimed;
+            }
+        }
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private ProfileContext.LoadedProfile load(String name) throws IOException {
+        ConfigSource source = profiles.get(name);
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown profile: " + name);
+        }
+        source.load();
+        Map<String, String> values;
+        try {
+            values = source.getValues();
+        } catch (UnsupportedOperationException e) {
+            values = null;
+        }
+        return new ProfileContext.LoadedProfile(source, values);
+    }
+
+    /**
+     * Removes the least recently used stacks while the cache is over its limit. Stacks are visited from the
+     * oldest; a stack that was resolved again since it was last visited is moved to the back instead of being
+     * evicted. Only called when a stack is resolved and cached, so lookups of cached stacks only set a flag.
+     *
+     * @param added The stack that was just cached and must not be evicted, or {@code null}.
+     */
+    private void evictContexts(List<String> added) {
+        while (contexts.size() > maxCachedContexts) {
+            Map.Entry<List<String>, CachedContext> oldest = null;
+            for (Map.Entry<List<String>, CachedContext> entry : contexts.entrySet()) {
+                if (!entry.getKey().equals(added)
+                        && (oldest == null || entry.getValue().sequence < oldest.getValue().sequence)) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            CachedContext candidate = oldest.getValue();
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                candidate.sequence = contextSequence.incrementAndGet();
+            } else {
+                contexts.remove(oldest.getKey(), candidate);
+            }
+        }
+    }
+
+    private void restore(ProfileContext previous) {
+        if (previous == null) {
+            boundContext.remove();
+        } else {
+            boundContext.set(previous);
+        }
+    }
+
+    private void activate(ProfileContext next) {
+        ProfileContext previous = active;
+        active = next;
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Set<String> candidates = new HashSet<>(previous.getKeys());
+        candidates.addAll(next.getKeys());
+        listeners.dispatch(previous::getValue, next::getValue, candidates,
+                previous.isEnumerable() && next.isEnumerable());
+    }
+
+    /**
+     * A resolved stack in the context cache, with its position in the eviction order.
+     */
+    private static final class CachedContext {
+        private final long generation;
+        private final ProfileContext context;
+        private volatile long sequence;
+        private volatile boolean referenced;
+
+        CachedContext(long generation, long sequence, ProfileContext context) {
+            this.generation = generation;
+            this.sequence = sequence;
+            this.context = context;
+        }
     }
-}
\ No newline at end of file
+}
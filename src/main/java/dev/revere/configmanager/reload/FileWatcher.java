@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.reload;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.FallbackConfigSource;
+import dev.revere.configmanager.LazyConfigSource;
+import dev.revere.configmanager.format.FileConfigSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches the files behind a {@link ConfigManager}'s file-backed sources and reloads them when they change.
+ *
+ * <p>Change events are debounced per file, so a burst of writes from an editor results in a single reload once
+ * the file has been quiet for the debounce interval. Only the source whose file changed is re-parsed, through
+ * {@link ConfigManager#reloadSource(ConfigSource)}; readers keep using the previous snapshot until the new one
+ * is published. A reload that fails, for example because the file is momentarily invalid, leaves the previous
+ * configuration in place and is counted in {@link #getFailureCount()}.</p>
+ *
+ * <p>File sources wrapped in a {@link LazyConfigSource} or a {@link FallbackConfigSource} are watched as well. When
+ * their file changes, the registered wrapper is reloaded, so a lazy source that has not been loaded yet stays
+ * unloaded.</p>
+ *
+ * <p>Reload latency is measured from the file's last modification time to the moment the new snapshot becomes
+ * visible.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class FileWatcher implements Closeable {
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private final ConfigManager configManager;
+    private final Duration debounce;
+    private final WatchService watchService;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Map<Path, List<ConfigSource>> watchedFiles = new ConcurrentHashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile long lastLatencyNanos = -1;
+    private volatile Exception lastFailure;
+    private volatile Thread watchThread;
+
+    /**
+     * Constructs a {@code FileWatcher} for the specified manager with the default debounce interval of 200ms.
+     *
+     * @param configManager The manager whose file sources should be reloaded.
+     * @throws IOException If the watch service could not be created.
+     */
+    public FileWatcher(ConfigManager configManager) throws IOException {
+        this(configManager, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Constructs a {@code FileWatcher} for the specified manager.
+     *
+     * @param configManager The manager whose file sources should be reloaded.
+     * @param debounce      How long a file must stay unchanged before it is reloaded.
+     * @throws IOException If the watch service could not be created.
+     */
+    public FileWatcher(ConfigManager configManager, Duration debounce) throws IOException {
+        this.configManager = configManager;
+        this.debounce = debounce;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "config-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Starts watching every {@link FileConfigSource} currently registered with the manager, directly or through a
+     * wrapper.
+     *
+     * @throws IOException           If a directory could not be registered with the watch service.
+     * @throws IllegalStateException If the watcher has already been started.
+     */
+    public synchronized void start() throws IOException {
+        if (watchThread != null) {
+            throw new IllegalStateException("FileWatcher has already been started");
+        }
+        for (ConfigSource source : configManager.getSources()) {
+            watch(source, source);
+        }
+
+        Thread thread = new Thread(this::processEvents, "config-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        watchThread = thread;
+    }
+
+    /**
+     * Stops watching and cancels any pending reloads. A reload that is already running is allowed to finish before
+     * this method returns.
+     *
+     * @throws IOException If the watch service could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        watchService.close();
+        try {
+            scheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of successful reloads.
+     *
+     * @return The reload count.
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * Returns the number of reloads that failed and left the previous configuration in place.
+     *
+     * @return The failure count.
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the exception thrown by the most recent failed reload.
+     *
+     * @return The last failure, or {@code null} if no reload has failed.
+     */
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Returns the time between the last file write and the new value becoming visible.
+     *
+     * @return The latency of the most recent reload, or {@code null} if no reload has happened yet.
+     */
+    public Duration getLastReloadLatency() {
+        long nanos = lastLatencyNanos;
+        return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Returns the highest observed reload latency.
+     *
+     * @return The maximum latency, or {@link Duration#ZERO} if no reload has happened yet.
+     */
+    public Duration getMaxReloadLatency() {
+        return Duration.ofNanos(maxLatencyNanos.get());
+    }
+
+    /**
+     * Returns the average reload latency.
+     *
+     * @return The average latency, or {@link Duration#ZERO} if no reload has happened yet.
+     */
+    public Duration getAverageReloadLatency() {
+        long count = reloadCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.get() / count);
+    }
+
+    /**
+     * Watches the files behind a registered source, looking through the wrappers that delegate to other sources.
+     *
+     * @param registered The source registered with the manager, which is reloaded when a file changes.
+     * @param source     The registered source or one of its delegates.
+     */
+    private void watch(ConfigSource registered, ConfigSource source) throws IOException {
+        if (source instanceof LazyConfigSource lazy) {
+            watch(registered, lazy.getDelegate());
+        } else if (source instanceof FallbackConfigSource fallback) {
+            watch(registered, fallback.getPrimary());
+            if (fallback.getFallback() != null) {
+                watch(registered, fallback.getFallback());
+            }
+        } else if (source instanceof FileConfigSource fileSource) {
+            watch(registered, fileSource.getFile().toPath());
+        }
+    }
+
+    private void watch(ConfigSource registered, Path path) throws IOException {
+        Path file = path.toAbsolutePath().normalize();
+        Path directory = file.getParent();
+        if (!directories.containsValue(directory)) {
+            WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            directories.put(key, directory);
+        }
+        List<ConfigSource> sources = watchedFiles.computeIfAbsent(file, key -> new CopyOnWriteArrayList<>());
+        if (!sources.contains(registered)) {
+            sources.add(registered);
+        }
+    }
+
+    private void processEvents() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        watchedFiles.keySet().forEach(this::scheduleReload);
+                    } else if (directory != null) {
+                        Path changed = directory.resolve((Path) event.context());
+                        if (watchedFiles.containsKey(changed)) {
+                            scheduleReload(changed);
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // The watcher was closed.
+        }
+    }
+
+    private void scheduleReload(Path file) {
+        pendingReloads.compute(file, (path, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            if (scheduler.isShutdown()) {
+                return null;
+            }
+            return scheduler.schedule(() -> reload(path), debounce.toNanos(), TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void reload(Path file) {
+        pendingReloads.remove(file);
+        for (ConfigSource source : watchedFiles.get(file)) {
+            try {
+                Instant modified = Files.getLastModifiedTime(file).toInstant();
+                configManager.reloadSource(source);
+                recordLatency(Math.max(0, Duration.between(modified, Instant.now()).toNanos()));
+            } catch (IOException | RuntimeException e) {
+                failureCount.incrementAndGet();
+                lastFailure = e;
+            }
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        lastLatencyNanos = nanos;
+        totalLatencyNanos.addAndGet(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+        reloadCount.incrementAndGet();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.remote;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter between retries of a failing request.
+ *
+ * <p>The ceiling starts at the initial delay and doubles after every failure, up to the maximum. Each delay is
+ * drawn uniformly from the upper half of the current ceiling, so clients that failed together spread out
+ * instead of retrying in lockstep, while still waiting at least half the ceiling.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+final class Backoff {
+    private final long initialMillis;
+    private final long maxMillis;
+    private long ceilingMillis;
+
+    /**
+     * Constructs a {@code Backoff} with the specified bounds.
+     *
+     * @param initial The ceiling of the first delay.
+     * @param max     The highest ceiling.
+     */
+    Backoff(Duration initial, Duration max) {
+        this.initialMillis = Math.max(1, initial.toMillis());
+        this.maxMillis = Math.max(initialMillis, max.toMillis());
+        this.ceilingMillis = initialMillis;
+    }
+
+    /**
+     * Returns the delay before the next retry and raises the ceiling for the one after.
+     *
+     * @return The delay in milliseconds.
+     */
+    long nextDelayMillis() {
+        long ceiling = ceilingMillis;
+        ceilingMillis = Math.min(maxMillis, ceiling * 2);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    /**
+     * Resets the ceiling to the initial delay after a successful request.
+     */
+    void reset() {
+        ceilingMillis = initialMillis;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.remote;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.format.JsonConfigSource;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code ConfigSource} implementation that pulls a JSON document from a configuration server over HTTP.
+ *
+ * <p>Requests are conditional: the {@code ETag} of the last response is sent as {@code If-None-Match}, and a
+ * {@code 304 Not Modified} response keeps the current values without transferring or parsing the document
+ * again. Nested keys are flattened as in {@link JsonConfigSource}.</p>
+ *
+ * <p>Every document that is fetched and applied successfully is written atomically to a local snapshot file,
+ * with its ETag in a sibling {@code .etag} file. The first {@link #load()} uses an existing snapshot instead of
+ * the network, so startup does not wait for the server; without a snapshot, the first load fetches the document
+ * and fails if the server cannot be reached.</p>
+ *
+ * <p>{@link #watch(ConfigManager)} keeps the source up to date by long-polling the server. Each poll sends
+ * {@code Prefer: wait=<seconds>}, so a server that supports it holds the request until the document changes.
+ * A changed document is applied through {@link ConfigManager#reloadSource(ConfigSource)}, and its ETag and snapshot
+ * are only kept once the manager has published it, so a document the manager rejects is fetched again by the
+ * next poll instead of being acknowledged with {@code 304 Not Modified}. Servers that answer
+ * immediately are polled at most once per poll interval, and failed polls are retried with jittered exponential
+ * backoff.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class RemoteConfigSource implements ConfigSource, Closeable {
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI uri;
+    private final Path snapshotFile;
+    private final Path etagFile;
+    private final HttpClient client;
+    private final AtomicReference<Document> pending = new AtomicReference<>();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private volatile Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+    private volatile Duration pollWait = Duration.ofSeconds(30);
+    private volatile Duration pollInterval = Duration.ofSeconds(1);
+    private volatile Duration initialBackoff = Duration.ofMillis(500);
+    private volatile Duration maxBackoff = Duration.ofSeconds(30);
+
+    private volatile Map<String, String> values = Map.of();
+    private volatile String etag;
+    private volatile boolean loaded;
+    private volatile Exception lastFailure;
+    private volatile Thread pollThread;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a {@code RemoteConfigSource} with a default HTTP client.
+     *
+     * @param uri          The URI of the configuration document.
+     * @param snapshotFile The file to keep the last fetched document in, or {@code null} to not keep one.
+     */
+    public RemoteConfigSource(URI uri, File snapshotFile) {
+        this(uri, snapshotFile, HttpClient.newBuilder().connectTimeout(DEFAULT_REQUEST_TIMEOUT).build());
+    }
+
+    /**
+     * Constructs a {@code RemoteConfigSource} with the specified HTTP client, for example to configure TLS or a
+     * proxy.
+     *
+     * @param uri          The URI of the configuration document.
+     * @param snapshotFile The file to keep the last fetched document in, or {@code null} to not keep one.
+     * @param client       The client to send requests with.
+     */
+    public RemoteConfigSource(URI uri, File snapshotFile, HttpClient client) {
+        this.uri = uri;
+        this.snapshotFile = snapshotFile != null ? snapshotFile.toPath() : null;
+        this.etagFile = snapshotFile != null ? Path.of(snapshotFile.getPath() + ".etag") : null;
+        this.client = client;
+    }
+
+    /**
+     * Applies the latest document.
+     *
+     * <p>A document already fetched by the watcher is applied without another request. Otherwise, the first load
+     * reads the snapshot file if there is one, and later loads send a conditional request to the server. A fetched
+     * document is written to the snapshot file once it has been applied.</p>
+     *
+     * @throws IOException If the document cannot be fetched or parsed.
+     */
+    @Override
+    public void load() throws IOException {
+        Document document = pending.getAndSet(null);
+        boolean watched = document != null;
+        if (document == null && !loaded && snapshotFile != null && Files.exists(snapshotFile)) {
+            try {
+                document = readSnapshot();
+            } catch (IOException e) {
+                // An unreadable snapshot is replaced by the document fetched below.
+                lastFailure = e;
+            }
+        }
+        if (document == null) {
+            document = fetch(false);
+        }
+        if (document != null) {
+            values = document.values();
+            if (!watched) {
+                commit(document);
+            }
+        }
+        loaded = true;
+    }
+
+    /**
+     * Applies the latest document without blocking a thread on the network.
+     *
+     * <p>A conditional request is sent with {@link HttpClient#sendAsync}, and only parsing the response runs on the
+     * specified executor. Pending documents and the snapshot file are applied as in {@link #load()}.</p>
+     *
+     * @param executor The executor on which the response is parsed.
+     * @return A future that completes once the document has been applied.
+     */
+    @Override
+    public CompletableFuture<Void> loadAsync(Executor executor) {
+        if (pending.get() != null || (!loaded && snapshotFile != null && Files.exists(snapshotFile))) {
+            return ConfigSource.super.loadAsync(executor);
+        }
+        return client.sendAsync(request(false), HttpResponse.BodyHandlers.ofByteArray())
+                .thenAcceptAsync(response -> {
+                    try {
+                        Document document = accept(response);
+                        if (document != null) {
+                            values = document.values();
+                            commit(document);
+                        }
+                        loaded = true;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor);
+    }
+
+    /**
+     * Retrieves the value associated with the specified key from the applied document.
+     *
+     * @param key The key to search for.
+     * @return The value associated with the key, or {@code null} if the key does not exist.
+     */
+    @Override
+    public String getValue(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the applied document.
+     *
+     * @return An unmodifiable map of flattened keys to values.
+     */
+    @Override
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Starts long-polling the server on a virtual thread and reloads this source in the specified manager
+     * whenever the document changes. The source must be registered with the manager.
+     *
+     * @param configManager The manager to reload this source in.
+     * @throws IllegalStateException If the source is already being watched or has been closed.
+     */
+    public synchronized void watch(ConfigManager configManager) {
+        if (pollThread != null || closed) {
+            throw new IllegalStateException("RemoteConfigSource is already being watched or has been closed");
+        }
+        pollThread = Thread.ofVirtual().name("config-remote-poll").start(() -> poll(configManager));
+    }
+
+    /**
+     * Stops watching the server. The applied values stay available.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread = pollThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Sets how long a single request may take. Defaults to 10 seconds.
+     *
+     * @param requestTimeout The timeout.
+     */
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Sets how long the server is asked to hold a poll open when nothing has changed. Defaults to 30 seconds.
+     *
+     * @param pollWait The wait, in whole seconds.
+     */
+    public void setPollWait(Duration pollWait) {
+        this.pollWait = pollWait;
+    }
+
+    /**
+     * Sets the minimum time between the start of two polls, which limits the request rate against servers that
+     * do not hold polls open. Defaults to 1 second.
+     *
+     * @param pollInterval The interval.
+     */
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Sets the bounds of the jittered exponential backoff between failed polls. Defaults to 500ms and 30 seconds.
+     * Takes effect when the source is next watched.
+     *
+     * @param initial The ceiling of the first delay.
+     * @param max     The highest ceiling.
+     */
+    public void setBackoff(Duration initial, Duration max) {
+        this.initialBackoff = initial;
+        this.maxBackoff = max;
+    }
+
+    /**
+     * Returns the ETag of the most recently fetched document.
+     *
+     * @return The ETag, or {@code null} if the server did not send one.
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * Returns the number of polls that failed, either to reach the server or to apply its document.
+     *
+     * @return The failure count.
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the exception of the most recent failure, including failures to read or write the snapshot.
+     *
+     * @return The last failure, or {@code null} if nothing has failed.
+     */
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    private void poll(ConfigManager configManager) {
+        Backoff backoff = new Backoff(initialBackoff, maxBackoff);
+        while (!closed) {
+            long start = System.nanoTime();
+            long delayNanos;
+            try {
+                Document document = fetch(true);
+                backoff.reset();
+                if (document != null) {
+                    pending.set(document);
+                    configManager.reloadSource(this);
+                    commit(document);
+                }
+                delayNanos = pollInterval.toNanos() - (System.nanoTime() - start);
+            } catch (InterruptedIOException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                failureCount.incrementAndGet();
+                lastFailure = e;
+                delayNanos = TimeUnit.MILLISECONDS.toNanos(backoff.nextDelayMillis());
+            }
+            try {
+                if (delayNanos > 0) {
+                    Thread.sleep(Duration.ofNanos(delayNanos));
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends a conditional request for the document.
+     *
+     * @param wait Whether to ask the server to hold the request until the document changes.
+     * @return The changed document, or {@code null} if it has not been modified.
+     */
+    private Document fetch(boolean wait) throws IOException {
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request(wait), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + uri);
+        }
+        return accept(response);
+    }
+
+    private HttpRequest request(boolean wait) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .GET()
+                .header("Accept", "application/json")
+                .timeout(wait ? pollWait.plus(requestTimeout) : requestTimeout);
+        String current = etag;
+        if (current != null) {
+            request.header("If-None-Match", current);
+        }
+        if (wait) {
+            request.header("Prefer", "wait=" + Math.max(1, pollWait.toSeconds()));
+        }
+        return request.build();
+    }
+
+    /**
+     * Parses a response.
+     *
+     * @return The changed document, or {@code null} if it has not been modified.
+     */
+    private Document accept(HttpResponse<byte[]> response) throws IOException {
+        if (response.statusCode() == 304) {
+            return null;
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected HTTP status " + response.statusCode() + " from " + uri);
+        }
+        byte[] body = response.body();
+        return new Document(parse(body), response.headers().firstValue("ETag").orElse(null), body);
+    }
+
+    /**
+     * Acknowledges an applied document: later requests are conditional on its ETag, and a fetched document
+     * replaces the snapshot.
+     */
+    private void commit(Document document) {
+        etag = document.etag();
+        if (document.body() != null) {
+            writeSnapshot(document.body(), document.etag());
+        }
+    }
+
+    private Document readSnapshot() throws IOException {
+        Map<String, String> snapshot = parse(Files.readAllBytes(snapshotFile));
+        String snapshotETag = Files.exists(etagFile) ? Files.readString(etagFile).trim() : null;
+        return new Document(snapshot, snapshotETag == null || snapshotETag.isEmpty() ? null : snapshotETag, null);
+    }
+
+    /**
+     * Replaces the snapshot with a fetched document. The document is written before its ETag, so an interrupted
+     * write at worst causes one unnecessary transfer. Failures are recorded but do not fail the fetch.
+     */
+    private void writeSnapshot(byte[] body, String documentETag) {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            replace(snapshotFile, body);
+            if (documentETag != null) {
+                replace(etagFile, documentETag.getBytes(StandardCharsets.UTF_8));
+            } else {
+                Files.deleteIfExists(etagFile);
+            }
+        } catch (IOException e) {
+            lastFailure = e;
+        }
+    }
+
+    private static void replace(Path file, byte[] content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, content);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static Map<String, String> parse(byte[] body) throws IOException {
+        return Collections.unmodifiableMap(JsonConfigSource.parse(body));
+    }
+
+    /**
+     * A parsed document, the ETag it was served with, and its raw body, or {@code null} if it was read from the
+     * snapshot file.
+     */
+    private record Document(Map<String, String> values, String etag, byte[] body) {
+    }
+}
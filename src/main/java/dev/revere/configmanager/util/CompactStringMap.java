@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of strings stored in a single open-addressing array.
+ *
+ * <p>Keys and values occupy adjacent slots of one array, so an entry costs two references instead of the
+ * node object, hash field and table slot of a {@link java.util.HashMap} entry. Lookups probe the array
+ * linearly using the key's cached hash code.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class CompactStringMap extends AbstractMap<String, String> {
+    private static final CompactStringMap EMPTY = new CompactStringMap(new String[2], 0);
+
+    private final String[] table;
+    private final int size;
+
+    private CompactStringMap(String[] table, int size) {
+        this.table = table;
+        this.size = size;
+    }
+
+    /**
+     * Copies a map into a {@code CompactStringMap}, deduplicating every key and value through the pool.
+     *
+     * @param values The map to copy. Entries with {@code null} values are skipped.
+     * @param pool   The pool used to deduplicate strings, or {@code null} to keep them as they are.
+     * @return The compact copy.
+     */
+    public static CompactStringMap copyOf(Map<String, String> values, StringPool pool) {
+        int count = 0;
+        for (String value : values.values()) {
+            if (value != null) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        // Keep the load factor at or below 2/3: the capacity is the smallest power of two of at least 1.5 * count.
+        int capacity = Integer.highestOneBit(Math.max(2, count + (count + 1 >> 1)) - 1) << 1;
+        String[] table = new String[capacity * 2];
+        int mask = capacity - 1;
+        int size = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            String key = pool != null ? pool.intern(entry.getKey()) : entry.getKey();
+            String value = pool != null ? pool.intern(entry.getValue()) : entry.getValue();
+            int slot = StringPool.spread(key.hashCode()) & mask;
+            while (table[slot * 2] != null && !table[slot * 2].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot * 2] == null) {
+                size++;
+            }
+            table[slot * 2] = key;
+            table[slot * 2 + 1] = value;
+        }
+        return new CompactStringMap(table, size);
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : table[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int next = advance(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < table.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (next >= table.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, String> entry = new SimpleImmutableEntry<>(table[next], table[next + 1]);
+                        next = advance(next + 2);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of slots in the hash table.
+     */
+    int capacity() {
+        return table.length >> 1;
+    }
+
+    private int advance(int index) {
+        while (index < table.length && table[index] == null) {
+            index += 2;
+        }
+        return index;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String string)) {
+            return -1;
+        }
+        int mask = (table.length >> 1) - 1;
+        int slot = StringPool.spread(string.hashCode()) & mask;
+        String candidate;
+        while ((candidate = table[slot * 2]) != null) {
+            if (candidate.equals(string)) {
+                return slot * 2;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
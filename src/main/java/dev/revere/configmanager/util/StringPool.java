@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.util;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A thread-safe pool that deduplicates strings, so that equal keys and values loaded by different sources share
+ * a single instance.
+ *
+ * <p>The pool holds its strings weakly: once no configuration refers to a string any more, it can be garbage
+ * collected and its slot is reused. Strings are stored in open-addressing tables of weak references, split into
+ * independently locked segments so that sources loading in parallel rarely contend.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class StringPool {
+    /**
+     * The pool shared by every file-backed source unless configured otherwise.
+     */
+    public static final StringPool SHARED = new StringPool();
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * Constructs an empty {@code StringPool}.
+     */
+    public StringPool() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the pooled instance equal to the specified string, adding the string to the pool if no equal
+     * instance is present.
+     *
+     * @param value The string to deduplicate, or {@code null}.
+     * @return The pooled instance, or {@code null} if {@code value} is {@code null}.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = spread(value.hashCode());
+        return segments[hash & (SEGMENTS - 1)].intern(value, hash >>> 4);
+    }
+
+    /**
+     * Returns the number of strings currently held, including strings that have been collected but whose slots
+     * have not been reclaimed yet.
+     *
+     * @return The approximate pool size.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        return hash ^ (hash >>> 13);
+    }
+
+    private static final class Segment {
+        private WeakReference<String>[] table = newTable(64);
+        private int size;
+
+        synchronized String intern(String value, int hash) {
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            int reusable = -1;
+            WeakReference<String> reference;
+            while ((reference = table[slot]) != null) {
+                String pooled = reference.get();
+                if (pooled == null) {
+                    if (reusable < 0) {
+                        reusable = slot;
+                    }
+                } else if (pooled.equals(value)) {
+                    return pooled;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (reusable >= 0) {
+                table[reusable] = new WeakReference<>(value);
+                return value;
+            }
+            table[slot] = new WeakReference<>(value);
+            if (++size > table.length / 2) {
+                rehash();
+            }
+            return value;
+        }
+
+        private void rehash() {
+            int live = 0;
+            for (WeakReference<String> reference : table) {
+                if (reference != null && reference.get() != null) {
+                    live++;
+                }
+            }
+            int capacity = table.length;
+            if (live > table.length / 4) {
+                capacity *= 2;
+            }
+            WeakReference<String>[] rehashed = newTable(capacity);
+            int mask = capacity - 1;
+            for (WeakReference<String> reference : table) {
+                String value = reference != null ? reference.get() : null;
+                if (value != null) {
+                    int slot = (spread(value.hashCode()) >>> 4) & mask;
+                    while (rehashed[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    rehashed[slot] = reference;
+                }
+            }
+            table = rehashed;
+            size = live;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static WeakReference<String>[] newTable(int capacity) {
+            return (WeakReference<String>[]) new WeakReference[capacity];
+        }
+    }
+}
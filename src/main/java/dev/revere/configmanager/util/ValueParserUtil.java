@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.util;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A utility class for converting raw configuration strings into typed values.
+ *
+ * <p>All methods throw {@link IllegalArgumentException} when a value cannot be converted.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ValueParserUtil {
+
+    /**
+     * Parses a boolean, accepting {@code true} or {@code false} in any case.
+     *
+     * @param value the value to parse.
+     * @return the parsed boolean.
+     * @throws IllegalArgumentException if the value is neither {@code true} nor {@code false}.
+     */
+    public static boolean parseBoolean(String value) {
+        String trimmed = value.trim();
+        if ("true".equalsIgnoreCase(trimmed)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(trimmed)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid boolean: " + value);
+    }
+
+    /**
+     * Parses a duration, either in ISO-8601 form ({@code PT30S}) or as a number followed by one of the units
+     * {@code ns}, {@code us}, {@code ms}, {@code s}, {@code m}, {@code h} or {@code d}. A number without a unit
+     * is interpreted as milliseconds.
+     *
+     * @param value the value to parse.
+     * @return the parsed duration.
+     * @throws IllegalArgumentException if the value is not a valid duration.
+     */
+    public static Duration parseDuration(String value) {
+        String trimmed = value.trim();
+        if (!trimmed.isEmpty() && (Character.toUpperCase(trimmed.charAt(0)) == 'P' || trimmed.startsWith("-P"))) {
+            try {
+                return Duration.parse(trimmed);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid duration: " + value, e);
+            }
+        }
+
+        int unitStart = unitStart(trimmed);
+        long amount = parseAmount(trimmed, unitStart, value, "duration");
+        String unit = trimmed.substring(unitStart).trim().toLowerCase(Locale.ROOT);
+        return switch (unit) {
+            case "ns" -> Duration.ofNanos(amount);
+            case "us" -> Duration.ofNanos(Math.multiplyExact(amount, 1_000L));
+            case "", "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            case "h" -> Duration.ofHours(amount);
+            case "d" -> Duration.ofDays(amount);
+            default -> throw new IllegalArgumentException("Invalid duration unit in: " + value);
+        };
+    }
+
+    /**
+     * Parses a byte size such as {@code 512}, {@code 64KB} or {@code 2GiB}. Units are binary multiples, so
+     * {@code 1KB} and {@code 1KiB} both equal 1024 bytes. A number without a unit is interpreted as bytes.
+     *
+     * @param value the value to parse.
+     * @return the number of bytes.
+     * @throws IllegalArgumentException if the value is not a valid byte size.
+     */
+    public static long parseByteSize(String value) {
+        String trimmed = value.trim();
+        int unitStart = unitStart(trimmed);
+        long amount = parseAmount(trimmed, unitStart, value, "byte size");
+        String unit = trimmed.substring(unitStart).trim().toUpperCase(Locale.ROOT);
+        int shift = switch (unit) {
+            case "", "B" -> 0;
+            case "K", "KB", "KIB" -> 10;
+            case "M", "MB", "MIB" -> 20;
+            case "G", "GB", "GIB" -> 30;
+            case "T", "TB", "TIB" -> 40;
+            default -> throw new IllegalArgumentException("Invalid byte size unit in: " + value);
+        };
+        if (shift > 0 && Long.numberOfLeadingZeros(Math.abs(amount)) <= shift) {
+            throw new IllegalArgumentException("Byte size out of range: " + value);
+        }
+        return amount << shift;
+    }
+
+    /**
+     * Parses an enum constant by name, falling back to a case-insensitive match.
+     *
+     * @param type  the enum type.
+     * @param value the value to parse.
+     * @param <E>   the enum type.
+     * @return the matching constant.
+     * @throws IllegalArgumentException if no constant matches.
+     */
+    public static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        String trimmed = value.trim();
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(trimmed)) {
+                return constant;
+            }
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(trimmed)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + type.getSimpleName() + ": " + value);
+    }
+
+    /**
+     * Parses a comma-separated list. Elements are trimmed and empty elements are dropped.
+     *
+     * @param value the value to parse.
+     * @return an immutable list of the elements.
+     */
+    public static List<String> parseList(String value) {
+        List<String> elements = new ArrayList<>();
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf(',', start);
+            if (end < 0) {
+                end = value.length();
+            }
+            String element = value.substring(start, end).trim();
+            if (!element.isEmpty()) {
+                elements.add(element);
+            }
+            start = end + 1;
+        }
+        return List.copyOf(elements);
+    }
+
+    private static int unitStart(String value) {
+        int index = 0;
+        if (index < value.length() && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            index++;
+        }
+        while (index < value.length() && Character.isDigit(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static long parseAmount(String trimmed, int unitStart, String value, String kind) {
+        try {
+            return Long.parseLong(trimmed, 0, unitStart, 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + kind + ": " + value, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.validation;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Thrown when a loaded configuration does not satisfy the validator registered with a {@code ConfigManager}.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ConfigValidationException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings("serial") // List.copyOf returns a serializable list.
+    private final List<Violation> violations;
+
+    /**
+     * Constructs a {@code ConfigValidationException} for the specified violations.
+     *
+     * @param violations The violations found.
+     */
+    public ConfigValidationException(List<Violation> violations) {
+        super("Configuration failed validation: " + violations);
+        this.violations = List.copyOf(violations);
+    }
+
+    /**
+     * Returns the violations that caused the configuration to be rejected.
+     *
+     * @return An immutable list of violations.
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+}
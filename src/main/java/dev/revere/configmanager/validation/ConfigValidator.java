@@ -23,6 +23,7 @@
  */
 package dev.revere.configmanager.validation;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,21 +32,38 @@ import java.util.Map;
  * <p>This class checks if a configuration map adheres to a specified schema where each key is
  * a field name and each value is the expected type (e.g., "integer").</p>
  *
+ * <p>The schema is compiled once by {@link SchemaCompiler} into a {@link ValidationPlan}, so validation does not
+ * re-parse type specifications or recompile patterns. See {@link SchemaCompiler} for the supported types.</p>
+ *
  * @author Remi
  * @project java-config-system
  * @date 8/19/2024
  */
 public class ConfigValidator {
 
-    private final Map<String, String> schema;
+    private final ValidationPlan plan;
 
     /**
      * Constructs a ConfigValidator with the given schema.
      *
+     * <p>The schema is compiled immediately; later changes to the map are not reflected.</p>
+     *
      * @param schema A map defining the expected types for configuration fields.
+     * @throws IllegalArgumentException If a type specification is malformed.
      */
     public ConfigValidator(Map<String, String> schema) {
-        this.schema = schema;
+        this.plan = SchemaCompiler.compile(schema);
+    }
+
+    /**
+     * Constructs a ConfigValidator with the given schema and cross-field rules.
+     *
+     * @param schema          A map defining the expected types for configuration fields.
+     * @param crossFieldRules Rules relating the values of several fields.
+     * @throws IllegalArgumentException If a type specification is malformed.
+     */
+    public ConfigValidator(Map<String, String> schema, List<CrossFieldRule> crossFieldRules) {
+        this.plan = SchemaCompiler.compile(schema, crossFieldRules);
     }
 
     /**
@@ -58,20 +76,25 @@ public class ConfigValidator {
      * @return {@code true} if the configuration is valid; {@code false} otherwise.
      */
     public boolean validate(Map<String, String> config) {
-        for (Map.Entry<String, String> entry : schema.entrySet()) {
-            String key = entry.getKey();
-            String expectedType = entry.getValue();
-            String value = config.get(key);
+        return plan.isValid(config);
+    }
 
-            if (value == null) {
-                return false;
-            }
+    /**
+     * Validates a configuration map against the schema and reports every violation.
+     *
+     * @param config The configuration map to validate.
+     * @return The violations found, or an empty list if the configuration is valid.
+     */
+    public List<Violation> findViolations(Map<String, String> config) {
+        return plan.validate(config);
+    }
 
-            // Type check for integer
-            if ("integer".equals(expectedType) && !value.matches("\\d+")) {
-                return false;
-            }
-        }
-        return true;
+    /**
+     * Returns the compiled validation plan.
+     *
+     * @return The plan used by this validator.
+     */
+    public ValidationPlan getPlan() {
+        return plan;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.validation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A validation rule that relates the values of several configuration keys, such as
+ * {@code pool.min <= pool.max}.
+ *
+ * <p>The condition receives the values of {@link #keys()} in the same order, with {@code null} for missing
+ * keys. A condition that throws a runtime exception, for example because a value is not a number, counts as
+ * a violation.</p>
+ *
+ * @param keys      The keys the rule reads. The rule is re-evaluated whenever one of them changes.
+ * @param message   The message reported when the condition does not hold.
+ * @param condition The condition that a valid configuration satisfies.
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public record CrossFieldRule(List<String> keys, String message, Predicate<List<String>> condition) {
+
+    /**
+     * Constructs a {@code CrossFieldRule}.
+     *
+     * @throws IllegalArgumentException If no keys are given.
+     */
+    public CrossFieldRule {
+        keys = List.copyOf(keys);
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("A cross-field rule must read at least one key");
+        }
+    }
+
+    /**
+     * Evaluates the rule.
+     *
+     * @param lookup Resolves configuration keys to values.
+     * @return The violation, or {@code null} if the rule holds.
+     */
+    Violation check(Function<String, String> lookup) {
+        String[] values = new String[keys.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = lookup.apply(keys.get(i));
+        }
+        try {
+            if (condition.test(Arrays.asList(values))) {
+                return null;
+            }
+            return new Violation(String.join(", ", keys), null, message);
+        } catch (RuntimeException e) {
+            return new Violation(String.join(", ", keys), null, message + " (" + e.getMessage() + ")");
+        }
+    }
+}
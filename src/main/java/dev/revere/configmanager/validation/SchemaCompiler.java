@@ -0,0 +1,336 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.validation;
+
+import dev.revere.configmanager.util.ValueParserUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles a schema into an immutable {@link ValidationPlan}.
+ *
+ * <p>A schema maps each required key to a type specification. The following types are supported, where
+ * ranges are written as {@code min..max} and either bound may be omitted:</p>
+ * <ul>
+ *     <li>{@code integer}: a non-negative whole number written in digits.</li>
+ *     <li>{@code integer(min..max)}, {@code long}, {@code long(min..max)}: a signed 32-bit or 64-bit integer
+ *     within the range.</li>
+ *     <li>{@code double}, {@code double(min..max)}: a floating-point number within the range.</li>
+ *     <li>{@code boolean}: {@code true} or {@code false} in any case.</li>
+ *     <li>{@code duration}, {@code duration(min..max)}: a duration such as {@code 30s} or {@code PT1M}.</li>
+ *     <li>{@code bytes}, {@code bytes(min..max)}: a byte size such as {@code 64KB}.</li>
+ *     <li>{@code enum(A,B,C)}: one of the listed names in any case.</li>
+ *     <li>{@code pattern(regex)}: a value fully matching the regular expression.</li>
+ * </ul>
+ * <p>Any other type, such as {@code string}, only requires the key to be present. Values are accepted in the
+ * same form as the typed accessors of {@code ConfigManager}.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class SchemaCompiler {
+
+    /**
+     * Compiles a schema into a validation plan.
+     *
+     * @param schema A map from configuration keys to type specifications.
+     * @return The compiled plan.
+     * @throws IllegalArgumentException If a type specification is malformed.
+     */
+    public static ValidationPlan compile(Map<String, String> schema) {
+        return compile(schema, List.of());
+    }
+
+    /**
+     * Compiles a schema and a set of cross-field rules into a validation plan.
+     *
+     * @param schema          A map from configuration keys to type specifications.
+     * @param crossFieldRules Rules relating the values of several keys.
+     * @return The compiled plan.
+     * @throws IllegalArgumentException If a type specification is malformed.
+     */
+    public static ValidationPlan compile(Map<String, String> schema, List<CrossFieldRule> crossFieldRules) {
+        Map<String, String> sorted = new TreeMap<>(schema);
+        String[] keys = new String[sorted.size()];
+        ValueRule[] rules = new ValueRule[sorted.size()];
+        int index = 0;
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            keys[index] = entry.getKey();
+            try {
+                rules[index] = compileRule(entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "Invalid schema for key '" + entry.getKey() + "': " + e.getMessage(), e);
+            }
+            index++;
+        }
+        return new ValidationPlan(keys, rules, crossFieldRules.toArray(new CrossFieldRule[0]));
+    }
+
+    /**
+     * Compiles a single type specification into a rule.
+     *
+     * @param spec The type specification, for example {@code integer(0..65535)}.
+     * @return The compiled rule.
+     * @throws IllegalArgumentException If the specification is malformed.
+     */
+    static ValueRule compileRule(String spec) {
+        String trimmed = spec.trim();
+        int open = trimmed.indexOf('(');
+        String type = (open < 0 ? trimmed : trimmed.substring(0, open)).trim().toLowerCase(Locale.ROOT);
+        String args = null;
+        if (open >= 0) {
+            if (!trimmed.endsWith(")")) {
+                throw new IllegalArgumentException("Missing ')' in: " + spec);
+            }
+            args = trimmed.substring(open + 1, trimmed.length() - 1);
+        }
+
+        return switch (type) {
+            case "integer" -> args == null
+                    ? SchemaCompiler::checkDigits
+                    : integerRule(Integer.MIN_VALUE, Integer.MAX_VALUE, args, "an integer");
+            case "long" -> integerRule(Long.MIN_VALUE, Long.MAX_VALUE, args, "a long");
+            case "double" -> doubleRule(args);
+            case "boolean" -> SchemaCompiler::checkBoolean;
+            case "duration" -> durationRule(args);
+            case "bytes" -> byteSizeRule(args);
+            case "enum" -> enumRule(require(args, spec));
+            case "pattern" -> patternRule(require(args, spec));
+            default -> ValueRule.PRESENT;
+        };
+    }
+
+    private static String checkDigits(String value) {
+        if (value.isEmpty()) {
+            return "must be a non-negative integer";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return "must be a non-negative integer";
+            }
+        }
+        return null;
+    }
+
+    private static String checkBoolean(String value) {
+        String trimmed = value.trim();
+        return "true".equalsIgnoreCase(trimmed) || "false".equalsIgnoreCase(trimmed) ? null : "must be a boolean";
+    }
+
+    private static ValueRule integerRule(long typeMin, long typeMax, String args, String kind) {
+        long min = typeMin;
+        long max = typeMax;
+        if (args != null) {
+            String[] bounds = range(args);
+            if (!bounds[0].isEmpty()) {
+                min = Math.max(typeMin, Long.parseLong(bounds[0]));
+            }
+            if (!bounds[1].isEmpty()) {
+                max = Math.min(typeMax, Long.parseLong(bounds[1]));
+            }
+        }
+        String message = describe(kind, min == typeMin ? null : min, max == typeMax ? null : max);
+        long lower = min;
+        long upper = max;
+        return value -> {
+            int start = 0;
+            int end = value.length();
+            while (start < end && Character.isWhitespace(value.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+                end--;
+            }
+            boolean negative = false;
+            if (start < end && (value.charAt(start) == '-' || value.charAt(start) == '+')) {
+                negative = value.charAt(start) == '-';
+                start++;
+            }
+            if (start == end) {
+                return message;
+            }
+            // Accumulates negatively, like Long.parseLong, so that Long.MIN_VALUE is representable.
+            long result = 0;
+            for (int i = start; i < end; i++) {
+                int digit = value.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || result < (Long.MIN_VALUE + digit) / 10) {
+                    return message;
+                }
+                result = result * 10 - digit;
+            }
+            if (!negative) {
+                if (result == Long.MIN_VALUE) {
+                    return message;
+                }
+                result = -result;
+            }
+            return result < lower || result > upper ? message : null;
+        };
+    }
+
+    private static ValueRule doubleRule(String args) {
+        double min = Double.NEGATIVE_INFINITY;
+        double max = Double.POSITIVE_INFINITY;
+        if (args != null) {
+            String[] bounds = range(args);
+            if (!bounds[0].isEmpty()) {
+                min = Double.parseDouble(bounds[0]);
+            }
+            if (!bounds[1].isEmpty()) {
+                max = Double.parseDouble(bounds[1]);
+            }
+        }
+        String message = describe("a number", Double.isInfinite(min) ? null : min, Double.isInfinite(max) ? null : max);
+        double lower = min;
+        double upper = max;
+        return value -> {
+            try {
+                double parsed = Double.parseDouble(value.trim());
+                return parsed >= lower && parsed <= upper ? null : message;
+            } catch (NumberFormatException e) {
+                return message;
+            }
+        };
+    }
+
+    private static ValueRule durationRule(String args) {
+        Duration min = null;
+        Duration max = null;
+        if (args != null) {
+            String[] bounds = range(args);
+            min = bounds[0].isEmpty() ? null : ValueParserUtil.parseDuration(bounds[0]);
+            max = bounds[1].isEmpty() ? null : ValueParserUtil.parseDuration(bounds[1]);
+        }
+        String message = describe("a duration", min, max);
+        Duration lower = min;
+        Duration upper = max;
+        return value -> {
+            try {
+                Duration parsed = ValueParserUtil.parseDuration(value);
+                boolean inRange = (lower == null || parsed.compareTo(lower) >= 0)
+                        && (upper == null || parsed.compareTo(upper) <= 0);
+                return inRange ? null : message;
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                return message;
+            }
+        };
+    }
+
+    private static ValueRule byteSizeRule(String args) {
+        long min = Long.MIN_VALUE;
+        long max = Long.MAX_VALUE;
+        if (args != null) {
+            String[] bounds = range(args);
+            if (!bounds[0].isEmpty()) {
+                min = ValueParserUtil.parseByteSize(bounds[0]);
+            }
+            if (!bounds[1].isEmpty()) {
+                max = ValueParserUtil.parseByteSize(bounds[1]);
+            }
+        }
+        String message = describe("a byte size", min == Long.MIN_VALUE ? null : min, max == Long.MAX_VALUE ? null : max);
+        long lower = min;
+        long upper = max;
+        return value -> {
+            try {
+                long parsed = ValueParserUtil.parseByteSize(value);
+                return parsed >= lower && parsed <= upper ? null : message;
+            } catch (IllegalArgumentException e) {
+                return message;
+            }
+        };
+    }
+
+    private static ValueRule enumRule(String args) {
+        List<String> names = new ArrayList<>();
+        for (String name : args.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("enum requires at least one name");
+        }
+        String[] allowed = names.toArray(new String[0]);
+        String message = "must be one of " + String.join(", ", allowed);
+        return value -> {
+            String trimmed = value.trim();
+            for (String name : allowed) {
+                if (name.equalsIgnoreCase(trimmed)) {
+                    return null;
+                }
+            }
+            return message;
+        };
+    }
+
+    private static ValueRule patternRule(String regex) {
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid pattern: " + regex, e);
+        }
+        String message = "must match " + regex;
+        return value -> pattern.matcher(value).matches() ? null : message;
+    }
+
+    private static String require(String args, String spec) {
+        if (args == null) {
+            throw new IllegalArgumentException("Missing arguments in: " + spec);
+        }
+        return args;
+    }
+
+    private static String[] range(String args) {
+        int separator = args.indexOf("..");
+        if (separator < 0) {
+            throw new IllegalArgumentException("Expected a range of the form min..max: " + args);
+        }
+        return new String[]{args.substring(0, separator).trim(), args.substring(separator + 2).trim()};
+    }
+
+    private static String describe(String kind, Object min, Object max) {
+        if (min != null && max != null) {
+            return "must be " + kind + " between " + min + " and " + max;
+        }
+        if (min != null) {
+            return "must be " + kind + " of at least " + min;
+        }
+        if (max != null) {
+            return "must be " + kind + " of at most " + max;
+        }
+        return "must be " + kind;
+    }
+}
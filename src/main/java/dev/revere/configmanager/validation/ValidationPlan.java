@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.validation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An immutable, precompiled set of validation rules produced by {@link SchemaCompiler}.
+ *
+ * <p>A plan can be shared freely between threads and reused for every validation. Rules are indexed by the
+ * keys they read, so {@link #validateChanged(Collection, Function)} can re-check a configuration after a
+ * reload in time proportional to the number of changed keys.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public final class ValidationPlan {
+    private final String[] keys;
+    private final ValueRule[] rules;
+    private final CrossFieldRule[] crossFieldRules;
+    private final Map<String, Integer> fieldIndex = new HashMap<>();
+    private final Map<String, int[]> crossFieldIndex = new HashMap<>();
+
+    ValidationPlan(String[] keys, ValueRule[] rules, CrossFieldRule[] crossFieldRules) {
+        this.keys = keys;
+        this.rules = rules;
+        this.crossFieldRules = crossFieldRules;
+        for (int i = 0; i < keys.length; i++) {
+            fieldIndex.put(keys[i], i);
+        }
+        Map<String, List<Integer>> byKey = new HashMap<>();
+        for (int i = 0; i < crossFieldRules.length; i++) {
+            for (String key : crossFieldRules[i].keys()) {
+                List<Integer> indexes = byKey.computeIfAbsent(key, k -> new ArrayList<>());
+                if (!indexes.contains(i)) {
+                    indexes.add(i);
+                }
+            }
+        }
+        byKey.forEach((key, indexes) -> crossFieldIndex.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Validates a configuration and reports every violation in a single pass.
+     *
+     * @param config The configuration to validate.
+     * @return The violations in schema order, or an empty list if the configuration is valid.
+     */
+    public List<Violation> validate(Map<String, String> config) {
+        return validate(config::get);
+    }
+
+    /**
+     * Validates a configuration and reports every violation in a single pass.
+     *
+     * @param lookup Resolves configuration keys to values, returning {@code null} for missing keys.
+     * @return The violations in schema order, or an empty list if the configuration is valid.
+     */
+    public List<Violation> validate(Function<String, String> lookup) {
+        List<Violation> violations = new ArrayList<>(0);
+        for (int i = 0; i < keys.length; i++) {
+            addIfPresent(violations, check(i, lookup.apply(keys[i])));
+        }
+        for (CrossFieldRule rule : crossFieldRules) {
+            addIfPresent(violations, rule.check(lookup));
+        }
+        return violations.isEmpty() ? List.of() : violations;
+    }
+
+    /**
+     * Re-validates only the rules that read one of the changed keys.
+     *
+     * <p>The result is only complete if the configuration satisfied this plan before the keys changed.</p>
+     *
+     * @param changedKeys The keys that were added, removed or modified.
+     * @param lookup      Resolves configuration keys to their new values.
+     * @return The violations found, or an empty list if the changes are valid.
+     */
+    public List<Violation> validateChanged(Collection<String> changedKeys, Function<String, String> lookup) {
+        List<Violation> violations = new ArrayList<>(0);
+        BitSet affected = null;
+        for (String key : changedKeys) {
+            Integer field = fieldIndex.get(key);
+            if (field != null) {
+                addIfPresent(violations, check(field, lookup.apply(key)));
+            }
+            int[] crossFields = crossFieldIndex.get(key);
+            if (crossFields != null) {
+                if (affected == null) {
+                    affected = new BitSet(crossFieldRules.length);
+                }
+                for (int index : crossFields) {
+                    affected.set(index);
+                }
+            }
+        }
+        if (affected != null) {
+            for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1)) {
+                addIfPresent(violations, crossFieldRules[i].check(lookup));
+            }
+        }
+        return violations.isEmpty() ? List.of() : violations;
+    }
+
+    /**
+     * Checks whether a configuration is valid, stopping at the first violation.
+     *
+     * @param config The configuration to validate.
+     * @return {@code true} if the configuration is valid; {@code false} otherwise.
+     */
+    public boolean isValid(Map<String, String> config) {
+        for (int i = 0; i < keys.length; i++) {
+            String value = config.get(keys[i]);
+            if (value == null || rules[i].check(value) != null) {
+                return false;
+            }
+        }
+        for (CrossFieldRule rule : crossFieldRules) {
+            if (rule.check(config::get) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of fields checked by this plan.
+     *
+     * @return The field count.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private Violation check(int index, String value) {
+        if (value == null) {
+            return new Violation(keys[index], null, "is required");
+        }
+        String message = rules[index].check(value);
+        return message == null ? null : new Violation(keys[index], value, message);
+    }
+
+    private static void addIfPresent(List<Violation> violations, Violation violation) {
+        if (violation != null) {
+            violations.add(violation);
+        }
+    }
+}
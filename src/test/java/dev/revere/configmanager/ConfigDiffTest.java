@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ConfigDiffTest {
+
+    @Test
+    public void testBetween() {
+        ConfigDiff diff = ConfigDiff.between(
+                Map.of("same", "1", "changed", "a", "removed", "x"),
+                Map.of("same", "1", "changed", "b", "added", "y"));
+
+        assertEquals(Set.of("added"), diff.getAdded());
+        assertEquals(Set.of("removed"), diff.getRemoved());
+        assertEquals(Set.of("changed"), diff.getModified());
+        assertEquals(Set.of("added", "removed", "changed"), diff.getChangedKeys());
+    }
+
+    @Test
+    public void testIdenticalMapsProduceEmptyDiff() {
+        Map<String, String> values = Map.of("a", "1");
+        assertSame(ConfigDiff.EMPTY, ConfigDiff.between(values, values));
+        assertTrue(ConfigDiff.between(values, Map.of("a", "1")).isEmpty());
+    }
+}
@@ -23,12 +23,39 @@
  */
 package dev.revere.configmanager;
 
+import dev.revere.configmanager.encryption.ConfigEncryptor;
+import dev.revere.configmanager.encryption.EncryptedValueResolver;
+import dev.revere.configmanager.event.ConfigChangeEvent;
+import dev.revere.configmanager.metrics.CounterMetrics;
+import dev.revere.configmanager.validation.ConfigValidationException;
+import dev.revere.configmanager.validation.ConfigValidator;
+import dev.revere.configmanager.validation.CrossFieldRule;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Remi
@@ -36,6 +63,7 @@ import static org.junit.Assert.assertEquals;
  * @date 8/19/2024
  */
 public class ConfigManagerTest {
+    private static final String SECRET_KEY = "ErrIFtuvOm/kGowL/rgu22sQeHzITNVr/TXs4mLpLFQ="; // random key for testing
     private ConfigManager configManager;
 
     @Before
@@ -50,6 +78,623 @@ public class ConfigManagerTest {
         assertEquals("value", configManager.getValue("key"));
     }
 
+    @Test
+    public void testIndexedLookupRespectsSourceOrder() throws IOException {
+        ConfigManager indexedManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        indexedManager.addSource(new InMemoryConfigSource(Map.of("shared", "first", "onlyFirst", "1")));
+        indexedManager.addSource(new InMemoryConfigSource(Map.of("shared", "second", "onlySecond", "2")));
+        indexedManager.loadConfig();
+
+        assertEquals("first", indexedManager.getValue("shared"));
+        assertEquals("1", indexedManager.getValue("onlyFirst"));
+        assertEquals("2", indexedManager.getValue("onlySecond"));
+        assertNull(indexedManager.getValue("missing"));
+    }
+
+    @Test
+    public void testTypedAccessors() throws IOException {
+        ConfigManager typedManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        typedManager.addSource(new InMemoryConfigSource(Map.of(
+                "port", "8080",
+                "ratio", "0.75",
+                "enabled", "TRUE",
+                "timeout", "30s",
+                "buffer", "64KB",
+                "mode", "indexed",
+                "hosts", "a, b,,c",
+                "broken", "eighty")));
+        typedManager.loadConfig();
+
+        assertEquals(8080, typedManager.getInt("port", 0));
+        assertEquals(8080L, typedManager.getLong("port", 0L));
+        assertEquals(0.75, typedManager.getDouble("ratio", 0), 0.0);
+        assertTrue(typedManager.getBoolean("enabled", false));
+        assertEquals(Duration.ofSeconds(30), typedManager.getDuration("timeout", null));
+        assertEquals(64 * 1024L, typedManager.getByteSize("buffer", 0));
+        assertEquals(ConfigManager.LookupMode.INDEXED,
+                typedManager.getEnum("mode", ConfigManager.LookupMode.class, null));
+        assertEquals(List.of("a", "b", "c"), typedManager.getList("hosts", List.of()));
+        assertSame(typedManager.getList("hosts", List.of()), typedManager.getList("hosts", List.of()));
+        assertEquals(42, typedManager.getInt("missing", 42));
+        assertThrows(IllegalArgumentException.class, () -> typedManager.getInt("broken", 0));
+    }
+
+    @Test
+    public void testTypedValuesRefreshAfterReload() throws IOException {
+        Map<String, String> values = new HashMap<>(Map.of("port", "8080"));
+        ConfigManager typedManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        typedManager.addSource(new InMemoryConfigSource(values));
+        typedManager.loadConfig();
+        assertEquals(8080, typedManager.getInt("port", 0));
+
+        values.put("port", "9090");
+        typedManager.loadConfig();
+        assertEquals(9090, typedManager.getInt("port", 0));
+    }
+
+    @Test
+    public void testEncryptedValuesAreDecryptedTransparently() throws Exception {
+        ConfigEncryptor encryptor = new ConfigEncryptor(SECRET_KEY);
+        Map<String, String> values = new HashMap<>();
+        values.put("db.password", EncryptedValueResolver.wrap(encryptor.encryptConfigValue("hunter2")));
+        values.put("db.port", EncryptedValueResolver.wrap(encryptor.encryptConfigValue("5432")));
+        values.put("db.user", "admin");
+
+        for (ConfigManager.LookupMode mode : ConfigManager.LookupMode.values()) {
+            ConfigManager manager = new ConfigManager(mode);
+            manager.addSource(new InMemoryConfigSource(values));
+            manager.loadConfig();
+            assertTrue(manager.getValue("db.password").startsWith("ENC("));
+
+            manager.setEncryptor(encryptor);
+            assertEquals("hunter2", manager.getValue("db.password"));
+            assertEquals(5432, manager.getInt("db.port", 0));
+            assertEquals("admin", manager.getValue("db.user"));
+            assertEquals(values.get("db.password"), manager.getSnapshot().getRawValue("db.password"));
+        }
+    }
+
+    @Test
+    public void testWrongKeyKeepsPreviousSnapshot() throws Exception {
+        ConfigEncryptor encryptor = new ConfigEncryptor(SECRET_KEY);
+        Map<String, String> values = new HashMap<>();
+        values.put("db.password", EncryptedValueResolver.wrap(encryptor.encryptConfigValue("hunter2")));
+        configManager.addSource(new InMemoryConfigSource(values));
+        configManager.loadConfig();
+        configManager.setEncryptor(encryptor);
+        ConfigSnapshot before = configManager.getSnapshot();
+
+        ConfigEncryptor otherKey = new ConfigEncryptor("AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=");
+        assertThrows(IOException.class, () -> configManager.setEncryptor(otherKey));
+        assertSame(before, configManager.getSnapshot());
+        assertEquals("hunter2", configManager.getValue("db.password"));
+    }
+
+    @Test
+    public void testRejectedReloadKeepsDecryptedValues() throws Exception {
+        ConfigEncryptor encryptor = new ConfigEncryptor(SECRET_KEY);
+        InMemoryConfigSource source = new InMemoryConfigSource(Map.of("pool.min", "1",
+                "db.password", EncryptedValueResolver.wrap(encryptor.encryptConfigValue("hunter2"))));
+        CounterMetrics metrics = new CounterMetrics();
+        configManager.setMetrics(metrics);
+        configManager.addSource(source);
+        configManager.setEncryptor(encryptor);
+        configManager.setValidator(new ConfigValidator(Map.of("pool.min", "integer")));
+        configManager.loadConfig();
+        assertEquals("hunter2", configManager.getValue("db.password"));
+        assertEquals(1, metrics.getDecrypts());
+
+        source.setNext(Map.of("pool.min", "x",
+                "db.password", EncryptedValueResolver.wrap(encryptor.encryptConfigValue("swordfish"))));
+        assertThrows(ConfigValidationException.class, () -> configManager.reloadSource(source));
+        assertEquals(2, metrics.getDecrypts());
+
+        assertEquals("hunter2", configManager.getValue("db.password"));
+        assertEquals(2, metrics.getDecrypts());
+    }
+
+    @Test
+    public void testEncryptorBeforeLoadDoesNotPublish() throws Exception {
+        InMemoryConfigSource pool = new InMemoryConfigSource(Map.of("pool.min", "1"));
+        configManager.addSource(pool);
+        configManager.setValidator(new ConfigValidator(Map.of("pool.min", "integer")));
+        AtomicInteger notifications = new AtomicInteger();
+        configManager.subscribe("pool.min", event -> notifications.incrementAndGet());
+
+        configManager.setEncryptor(new ConfigEncryptor(SECRET_KEY));
+        assertEquals(0, configManager.getSnapshot().getVersion());
+        assertEquals(0, notifications.get());
+
+        configManager.loadConfig();
+        assertEquals(1, configManager.getSnapshot().getVersion());
+        assertEquals(1, configManager.getInt("pool.min", 0));
+    }
+
+    @Test
+    public void testParallelLoadRunsSourcesConcurrently() throws IOException {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        ConfigManager manager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        for (int i = 0; i < 3; i++) {
+            String value = "value" + i;
+            manager.addSource(new BlockingConfigSource(barrier, () -> Map.of("key", value)));
+        }
+
+        manager.loadConfigParallel();
+        assertEquals("value0", manager.getValue("key"));
+    }
+
+    @Test
+    public void testParallelLoadAggregatesFailures() throws IOException {
+        configManager.loadConfig();
+        ConfigSnapshot before = configManager.getSnapshot();
+        AtomicInteger loaded = new AtomicInteger();
+        configManager.addSource(new BlockingConfigSource(null, () -> {
+            throw new IOException("first");
+        }));
+        configManager.addSource(new BlockingConfigSource(null, () -> {
+            loaded.incrementAndGet();
+            return Map.of();
+        }));
+        configManager.addSource(new BlockingConfigSource(null, () -> {
+            throw new IOException("second");
+        }));
+
+        IOException exception = assertThrows(IOException.class, () -> configManager.loadConfigParallel());
+        assertEquals(2, exception.getSuppressed().length);
+        assertEquals("first", exception.getSuppressed()[0].getMessage());
+        assertEquals("second", exception.getSuppressed()[1].getMessage());
+        assertEquals(1, loaded.get());
+        assertSame(before, configManager.getSnapshot());
+    }
+
+    @Test
+    public void testAsyncLoadOverlapsSourcesAndPublishes() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        ConfigManager manager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        for (int i = 0; i < 3; i++) {
+            String value = "value" + i;
+            manager.addSource(new BlockingConfigSource(barrier, () -> Map.of("key", value)));
+        }
+
+        ConfigSnapshot published = manager.loadConfigAsync().get(5, TimeUnit.SECONDS);
+        assertSame(published, manager.getSnapshot());
+        assertEquals("value0", manager.getValue("key"));
+    }
+
+    @Test
+    public void testAsyncLoadAggregatesFailures() throws IOException {
+        configManager.loadConfig();
+        ConfigSnapshot before = configManager.getSnapshot();
+        configManager.addSource(new BlockingConfigSource(null, () -> {
+            throw new IOException("first");
+        }));
+        configManager.addSource(new BlockingConfigSource(null, () -> {
+            throw new IOException("second");
+        }));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> configManager.loadConfigAsync().get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IOException);
+        assertEquals(2, exception.getCause().getSuppressed().length);
+        assertEquals("first", exception.getCause().getSuppressed()[0].getMessage());
+        assertSame(before, configManager.getSnapshot());
+    }
+
+    @Test
+    public void testAsyncLoadFallsBackWhenSourceTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FallbackConfigSource remote = new FallbackConfigSource(new BlockingConfigSource(null, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("endpoint", "remote");
+        }), new InMemoryConfigSource(Map.of("endpoint", "bundled")));
+        remote.setTimeout(Duration.ofMillis(50));
+        ConfigManager manager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        manager.addSource(remote);
+
+        try {
+            manager.loadConfigAsync().get(5, TimeUnit.SECONDS);
+            assertEquals("bundled", manager.getValue("endpoint"));
+            assertTrue(remote.isUsingFallback());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testValidatorRejectsInvalidReload() throws IOException {
+        InMemoryConfigSource pool = new InMemoryConfigSource(Map.of("pool.min", "1", "pool.max", "10"));
+        InMemoryConfigSource other = new InMemoryConfigSource(Map.of("name", "a"));
+        configManager.addSource(pool);
+        configManager.addSource(other);
+        configManager.setValidator(new ConfigValidator(Map.of("pool.min", "integer", "pool.max", "integer"),
+                List.of(new CrossFieldRule(List.of("pool.min", "pool.max"), "pool.min must not exceed pool.max",
+                        values -> Integer.parseInt(values.get(0)) <= Integer.parseInt(values.get(1))))));
+        configManager.loadConfig();
+        ConfigSnapshot valid = configManager.getSnapshot();
+
+        pool.setNext(Map.of("pool.min", "20", "pool.max", "10"));
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> configManager.reloadSource(pool));
+        assertEquals(1, exception.getViolations().size());
+        assertSame(valid, configManager.getSnapshot());
+
+        // The rejected values are still pending, so reloading an unrelated source must not publish them.
+        other.setNext(Map.of("name", "b"));
+        assertThrows(ConfigValidationException.class, () -> configManager.reloadSource(other));
+        assertSame(valid, configManager.getSnapshot());
+
+        pool.setNext(Map.of("pool.min", "5", "pool.max", "10"));
+        configManager.reloadSource(pool);
+        assertEquals("5", configManager.getValue("pool.min"));
+        assertEquals("b", configManager.getValue("name"));
+    }
+
+    @Test
+    public void testReloadRevalidatesOnlyChangedKeys() throws IOException {
+        AtomicInteger evaluations = new AtomicInteger();
+        Map<String, String> schema = new HashMap<>();
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            schema.put("key" + i, "integer");
+            values.put("key" + i, String.valueOf(i));
+        }
+        InMemoryConfigSource source = new InMemoryConfigSource(values);
+        configManager.addSource(source);
+        configManager.loadConfig();
+        configManager.setValidator(new ConfigValidator(schema, List.of(
+                new CrossFieldRule(List.of("key1", "key2"), "key1 must be below key2", v -> {
+                    evaluations.incrementAndGet();
+                    return Integer.parseInt(v.get(0)) < Integer.parseInt(v.get(1));
+                }))));
+        assertEquals(1, evaluations.get());
+
+        Map<String, String> changed = new HashMap<>(values);
+        changed.put("key50", "500");
+        source.setNext(changed);
+        configManager.reloadSource(source);
+        assertEquals(1, evaluations.get());
+
+        changed = new HashMap<>(changed);
+        changed.put("key2", "0");
+        source.setNext(changed);
+        assertThrows(ConfigValidationException.class, () -> configManager.reloadSource(source));
+        assertEquals(2, evaluations.get());
+        assertEquals("500", configManager.getValue("key50"));
+        assertEquals("2", configManager.getValue("key2"));
+
+        assertThrows(ConfigValidationException.class, () -> configManager.setValidator(
+                new ConfigValidator(Map.of("missing", "string"))));
+    }
+
+    @Test
+    public void testReloadNotifiesSubscribers() throws Exception {
+        InMemoryConfigSource source = new InMemoryConfigSource(Map.of("db.host", "a", "db.port", "1", "name", "x"));
+        configManager.addSource(source);
+        configManager.loadConfig();
+
+        BlockingQueue<ConfigChangeEvent> db = new LinkedBlockingQueue<>();
+        BlockingQueue<ConfigChangeEvent> name = new LinkedBlockingQueue<>();
+        configManager.subscribePrefix("db", db::add);
+        configManager.subscribe("name", name::add);
+
+        source.setNext(Map.of("db.host", "b", "db.port", "2", "name", "x"));
+        configManager.reloadSource(source);
+
+        ConfigChangeEvent event = db.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertEquals(2, event.changes().size());
+        assertEquals("b", event.getChange("db.host").newValue());
+        assertNull(name.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testReloadsSourceThroughRegisteredWrapper() throws IOException {
+        InMemoryConfigSource primary = new InMemoryConfigSource(Map.of("remote", "a"));
+        InMemoryConfigSource lazy = new InMemoryConfigSource(Map.of("other", "x"));
+        configManager.addSource(new FallbackConfigSource(primary, new InMemoryConfigSource(Map.of())));
+        configManager.addSource(new LazyConfigSource(lazy));
+        configManager.loadConfig();
+
+        primary.setNext(Map.of("remote", "b"));
+        configManager.reloadSource(primary);
+        assertEquals("b", configManager.getValue("remote"));
+
+        assertEquals("x", configManager.getValue("other"));
+        lazy.setNext(Map.of("other", "y"));
+        configManager.reloadSource(lazy);
+        assertEquals("y", configManager.getValue("other"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> configManager.reloadSource(new InMemoryConfigSource(Map.of())));
+    }
+
+    @Test
+    public void testScopedViewFollowsReloads() throws IOException {
+        InMemoryConfigSource source = new InMemoryConfigSource(
+                Map.of("cache.redis.host", "a", "cache.redis.pool.size", "8", "cache.redisson", "x"));
+        configManager.addSource(source);
+        configManager.loadConfig();
+
+        ScopedConfig redis = configManager.scope("cache.redis");
+        assertEquals("a", redis.getValue("host"));
+        assertEquals(8, redis.scope("pool").getInt("size", 0));
+        assertEquals(List.of("host", "pool.size"), redis.getKeys());
+        assertEquals(Map.of("host", "a", "pool.size", "8"), redis.toMap());
+
+        ScopedConfig pinned = configManager.getSnapshot().scope("cache.redis");
+        source.setNext(Map.of("cache.redis.host", "b"));
+        configManager.reloadSource(source);
+        assertEquals("b", redis.getValue("host"));
+        assertEquals(List.of("host"), redis.getKeys());
+        assertEquals("a", pinned.getValue("host"));
+        assertEquals(List.of("cache.redis.host"), configManager.getSnapshot().getKeys("cache."));
+    }
+
+    @Test
+    public void testScopedViewIncludesArrayElements() throws IOException {
+        configManager.addSource(new InMemoryConfigSource(Map.of(
+                "servers[0].host", "a", "servers[1].host", "b", "servers.port", "80", "serversx", "x")));
+        configManager.loadConfig();
+
+        ScopedConfig servers = configManager.scope("servers");
+        assertEquals(List.of("port", "[0].host", "[1].host"), servers.getKeys());
+        assertEquals("b", servers.getValue("[1].host"));
+        assertEquals("a", servers.scope("[0]").getValue("host"));
+        assertEquals(Map.of("port", "80", "[0].host", "a", "[1].host", "b"), servers.toMap());
+    }
+
+    @Test
+    public void testScopedTypedAccessors() throws IOException {
+        configManager.addSource(new InMemoryConfigSource(Map.of(
+                "cache.mode", "sequential", "cache.ttl", "30s", "cache.hosts", "a, b")));
+        configManager.loadConfig();
+
+        ScopedConfig cache = configManager.scope("cache");
+        assertEquals(ConfigManager.LookupMode.SEQUENTIAL,
+                cache.getEnum("mode", ConfigManager.LookupMode.class, ConfigManager.LookupMode.INDEXED));
+        assertEquals(ConfigManager.LookupMode.INDEXED,
+                cache.getEnum("missing", ConfigManager.LookupMode.class, ConfigManager.LookupMode.INDEXED));
+        assertEquals(Duration.ofSeconds(30), cache.getDuration("ttl", Duration.ZERO));
+        assertEquals(List.of("a", "b"), cache.getList("hosts", List.of()));
+    }
+
+    @Test
+    public void testLazySourceLoadsOnFirstLookupAndWarmUp() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LazyConfigSource lazy = new LazyConfigSource(new BlockingConfigSource(null, () -> {
+            loads.incrementAndGet();
+            return Map.of("secondary.key", "secondary");
+        }));
+        ConfigManager manager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        manager.addSource(new InMemoryConfigSource(Map.of("primary.key", "primary")));
+        manager.addSource(lazy);
+        manager.loadConfig();
+
+        assertEquals(0, loads.get());
+        assertNull(manager.getTimeToFirstLookup());
+        assertEquals("primary", manager.getValue("primary.key"));
+        assertNotNull(manager.getTimeToFirstLookup());
+        assertEquals(0, loads.get());
+        assertFalse(manager.getSnapshot().isEnumerable());
+
+        manager.warmUp().get(5, TimeUnit.SECONDS);
+        assertEquals(1, loads.get());
+        assertTrue(lazy.isLoaded());
+        assertTrue(manager.getSnapshot().isEnumerable());
+        assertEquals("secondary", manager.getValue("secondary.key"));
+
+        manager.loadConfig();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testMissesAreFilteredAndCounted() throws IOException {
+        ConfigManager manager = new ConfigManager();
+        manager.addSource(new InMemoryConfigSource(Map.of("flag.a", "true")));
+        manager.addSource(new InMemoryConfigSource(Map.of("flag.b", "false")));
+        manager.loadConfig();
+
+        assertEquals("true", manager.getValue("flag.a"));
+        assertEquals("false", manager.getValue("flag.b"));
+        for (int i = 0; i < 100; i++) {
+            assertNull(manager.getValue("flag.missing" + i));
+        }
+
+        LookupStatistics statistics = manager.getLookupStatistics();
+        assertEquals(2, statistics.getHits());
+        assertEquals(100, statistics.getMisses());
+        assertTrue(statistics.getFilteredMisses() > 90);
+        assertEquals(2 / 102.0, statistics.getHitRatio(), 1e-9);
+
+        statistics.reset();
+        assertEquals(0, statistics.getMisses());
+    }
+
+    @Test
+    public void testSequentialReadersSeeConsistentSnapshotsDuringReload() throws Exception {
+        assertConsistentDuringReload(ConfigManager.LookupMode.SEQUENTIAL);
+    }
+
+    @Test
+    public void testIndexedReadersSeeConsistentSnapshotsDuringReload() throws Exception {
+        assertConsistentDuringReload(ConfigManager.LookupMode.INDEXED);
+    }
+
+    private void assertConsistentDuringReload(ConfigManager.LookupMode lookupMode) throws Exception {
+        AtomicInteger generation = new AtomicInteger();
+        ConfigManager manager = new ConfigManager(lookupMode);
+        manager.addSource(new GenerationConfigSource("first", generation));
+        manager.addSource(new GenerationConfigSource("second", generation));
+        manager.loadConfig();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(8);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread reader = new Thread(() -> {
+                started.countDown();
+                long lastVersion = 0;
+                while (running.get()) {
+                    ConfigSnapshot snapshot = manager.getSnapshot();
+                    String first = snapshot.getValue("first");
+                    String second = snapshot.getValue("second");
+                    if (!first.equals(second) || snapshot.getVersion() < lastVersion) {
+                        failure.compareAndSet(null, new AssertionError(
+                                "Inconsistent snapshot " + snapshot.getVersion() + ": " + first + " != " + second));
+                        return;
+                    }
+                    lastVersion = snapshot.getVersion();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        started.await();
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                generation.incrementAndGet();
+                manager.loadConfig();
+            }
+        } finally {
+            running.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(String.valueOf(generation.get()), manager.getValue("first"));
+        assertTrue(manager.getSnapshot().getVersion() > 2_000);
+    }
+
+    @Test
+    public void testSourceAddedAtPositionTakesPrecedence() throws IOException {
+        for (ConfigManager.LookupMode mode : ConfigManager.LookupMode.values()) {
+            ConfigManager manager = new ConfigManager(mode);
+            manager.addSource(new InMemoryConfigSource(Map.of("db.host", "localhost", "db.port", "5432")));
+            manager.addSource(new InMemoryConfigSource(Map.of("db.host", "fallback", "db.name", "app")));
+            manager.addSource(0, new InMemoryConfigSource(Map.of("db.host", "db.internal")));
+            manager.addSource(2, new InMemoryConfigSource(Map.of("db.port", "6543", "db.name", "orders")));
+            manager.loadConfig();
+
+            assertEquals(mode.name(), "db.internal", manager.getValue("db.host"));
+            assertEquals(mode.name(), "5432", manager.getValue("db.port"));
+            assertEquals(mode.name(), "orders", manager.getValue("db.name"));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> manager.addSource(5, new InMemoryConfigSource(Map.of())));
+        }
+    }
+
+    @Test
+    public void testInterpolationFollowsReloadsInBothModes() throws IOException {
+        for (ConfigManager.LookupMode mode : ConfigManager.LookupMode.values()) {
+            ConfigManager manager = new ConfigManager(mode);
+            manager.setListenerExecutor(Runnable::run);
+            InMemoryConfigSource overrides = new InMemoryConfigSource(Map.of("db.host", "db.internal"));
+            InMemoryConfigSource defaults = new InMemoryConfigSource(Map.of(
+                    "db.host", "localhost",
+                    "db.port", "5432",
+                    "db.url", "jdbc:postgresql://${db.host}:${db.port}/${db.name:app}",
+                    "greeting", "$${not.a.placeholder}"));
+            manager.addSource(overrides);
+            manager.addSource(defaults);
+            manager.setInterpolation(true);
+            manager.loadConfig();
+            List<ConfigChangeEvent> events = new ArrayList<>();
+            manager.subscribe("db.url", events::add);
+
+            assertEquals(mode.name(), "jdbc:postgresql://db.internal:5432/app", manager.getValue("db.url"));
+            assertEquals(mode.name(), "${not.a.placeholder}", manager.getValue("greeting"));
+
+            overrides.setNext(Map.of("db.host", "db.internal", "db.port", "6543"));
+            manager.reloadSource(overrides);
+            assertEquals(mode.name(), "jdbc:postgresql://db.internal:6543/app", manager.getValue("db.url"));
+            assertEquals(mode.name(), 1, events.size());
+            assertEquals(mode.name(), "jdbc:postgresql://db.internal:6543/app",
+                    events.get(0).getChange("db.url").newValue());
+
+            overrides.setNext(Map.of("db.host", "${db.url}"));
+            long version = manager.getSnapshot().getVersion();
+            IOException exception = assertThrows(IOException.class, () -> manager.reloadSource(overrides));
+            assertTrue(exception.getCause().getMessage().startsWith("Circular placeholder reference"));
+            assertEquals(version, manager.getSnapshot().getVersion());
+
+            manager.setInterpolation(false);
+            assertEquals(mode.name(), "${db.url}", manager.getValue("db.host"));
+        }
+    }
+
+    private static class GenerationConfigSource implements ConfigSource {
+        private final String key;
+        private final AtomicInteger generation;
+        private volatile Map<String, String> values = Map.of();
+
+        GenerationConfigSource(String key, AtomicInteger generation) {
+            this.key = key;
+            this.generation = generation;
+        }
+
+        @Override
+        public void load() {
+            values = Map.of(key, String.valueOf(generation.get()));
+        }
+
+        @Override
+        public String getValue(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public Map<String, String> getValues() {
+            return values;
+        }
+    }
+
+    private interface Loader {
+        Map<String, String> load() throws IOException;
+    }
+
+    private static class BlockingConfigSource implements ConfigSource {
+        private final CyclicBarrier barrier;
+        private final Loader loader;
+        private volatile Map<String, String> values = Map.of();
+
+        BlockingConfigSource(CyclicBarrier barrier, Loader loader) {
+            this.barrier = barrier;
+            this.loader = loader;
+        }
+
+        @Override
+        public void load() throws IOException {
+            if (barrier != null) {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IOException("Sources were not loaded concurrently", e);
+                }
+            }
+            values = loader.load();
+        }
+
+        @Override
+        public String getValue(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public Map<String, String> getValues() {
+            return values;
+        }
+    }
+
     private static class MockConfigSource implements ConfigSource {
         @Override
         public void load() {
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class FallbackConfigSourceTest {
+
+    @Test
+    public void testServesPrimaryWhenItLoads() throws IOException {
+        FallbackConfigSource source = new FallbackConfigSource(new InMemoryConfigSource(Map.of("key", "primary")),
+                new InMemoryConfigSource(Map.of("key", "fallback")));
+
+        source.load();
+
+        assertEquals("primary", source.getValue("key"));
+        assertEquals(Map.of("key", "primary"), source.getValues());
+        assertFalse(source.isUsingFallback());
+    }
+
+    @Test
+    public void testServesFallbackUntilPrimaryRecovers() throws IOException {
+        InMemoryConfigSource primary = new InMemoryConfigSource(Map.of("key", "primary"));
+        primary.setFailure(new IOException("primary down"));
+        FallbackConfigSource source = new FallbackConfigSource(primary,
+                new InMemoryConfigSource(Map.of("key", "fallback")));
+
+        source.load();
+        assertEquals("fallback", source.getValue("key"));
+        assertTrue(source.isUsingFallback());
+        assertEquals("primary down", source.getLastFailure().getMessage());
+
+        primary.setFailure(null);
+        source.load();
+        assertEquals("primary", source.getValue("key"));
+        assertFalse(source.isUsingFallback());
+        assertNull(source.getLastFailure());
+    }
+
+    @Test
+    public void testReportsFailureWithoutFallback() {
+        InMemoryConfigSource primary = new InMemoryConfigSource(Map.of());
+        primary.setFailure(new IOException("primary down"));
+        FallbackConfigSource source = new FallbackConfigSource(primary, null);
+
+        IOException exception = assertThrows(IOException.class, source::load);
+        assertEquals("primary down", exception.getMessage());
+    }
+
+    @Test
+    public void testReportsBothFailuresWhenFallbackFails() {
+        InMemoryConfigSource primary = new InMemoryConfigSource(Map.of());
+        InMemoryConfigSource fallback = new InMemoryConfigSource(Map.of());
+        primary.setFailure(new IOException("primary down"));
+        fallback.setFailure(new IOException("fallback down"));
+        FallbackConfigSource source = new FallbackConfigSource(primary, fallback);
+
+        IOException exception = assertThrows(IOException.class, source::load);
+        assertEquals("primary down", exception.getMessage());
+        assertEquals("fallback down", exception.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void testTimeoutWithoutFallbackFailsLoad() {
+        CountDownLatch release = new CountDownLatch(1);
+        FallbackConfigSource source = new FallbackConfigSource(new ConfigSource() {
+            @Override
+            public void load() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public String getValue(String key) {
+                return null;
+            }
+        }, null);
+        source.setTimeout(Duration.ofMillis(20));
+
+        try {
+            IOException exception = assertThrows(IOException.class, source::load);
+            assertTrue(exception.getCause() instanceof TimeoutException);
+        } finally {
+            release.countDown();
+        }
+    }
+}
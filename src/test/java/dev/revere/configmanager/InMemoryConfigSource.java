@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ConfigSource} backed by an in-memory map, shared by the tests and benchmarks to isolate them from file
+ * I/O.
+ *
+ * <p>The values passed to the constructor are served immediately. Tests can stage the values that the next
+ * {@link #load()} applies, make loads fail or block, and count how often the source was loaded.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class InMemoryConfigSource implements ConfigSource {
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile Map<String, String> values;
+    private volatile Map<String, String> next;
+    private volatile IOException failure;
+    private volatile CountDownLatch gate;
+
+    public InMemoryConfigSource(Map<String, String> values) {
+        this.values = values;
+        this.next = values;
+    }
+
+    /**
+     * Creates a source holding {@code keyCount} keys of the form {@code <prefix>.key<n>}.
+     */
+    public static InMemoryConfigSource generate(String prefix, int keyCount) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            values.put(prefix + ".key" + i, "value" + i);
+        }
+        return new InMemoryConfigSource(values);
+    }
+
+    /**
+     * Sets the values that every following load applies.
+     */
+    public void setNext(Map<String, String> next) {
+        this.next = next;
+    }
+
+    /**
+     * Makes every following load fail with the specified exception, or succeed again when {@code null}.
+     */
+    public void setFailure(IOException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Makes every following load wait, for at most five seconds, until the latch is released.
+     */
+    public void setGate(CountDownLatch gate) {
+        this.gate = gate;
+    }
+
+    /**
+     * Returns how many times the source has been loaded, including failed loads.
+     */
+    public int getLoadCount() {
+        return loads.get();
+    }
+
+    @Override
+    public void load() throws IOException {
+        loads.incrementAndGet();
+        CountDownLatch latch = gate;
+        if (latch != null) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+        IOException error = failure;
+        if (error != null) {
+            throw error;
+        }
+        values = next;
+    }
+
+    @Override
+    public String getValue(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    public Map<String, String> getValues() {
+        return values;
+    }
+}
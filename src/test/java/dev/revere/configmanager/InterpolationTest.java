@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class InterpolationTest {
+
+    @Test
+    public void testResolvesChainedTemplates() {
+        Map<String, String> values = Map.of(
+                "host", "localhost",
+                "port", "5432",
+                "address", "${host}:${port}",
+                "url", "jdbc:postgresql://${address}/app");
+
+        Interpolation interpolation = new Interpolation();
+        Set<String> affected = interpolation.update(values.keySet(), values::get, null);
+
+        assertEquals("localhost:5432", interpolation.getResolved().get("address"));
+        assertEquals("jdbc:postgresql://localhost:5432/app", interpolation.getResolved().get("url"));
+        assertNull(interpolation.getResolved().get("host"));
+        assertEquals(Set.of("address", "url"), affected);
+    }
+
+    @Test
+    public void testCycleIsReported() {
+        Map<String, String> values = Map.of("a", "${b}", "b", "x-${c}", "c", "${a}", "d", "plain");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new Interpolation().update(values.keySet(), values::get, null));
+        assertTrue(exception.getMessage(), exception.getMessage().startsWith("Circular placeholder reference"));
+    }
+
+    @Test
+    public void testUnresolvedReferenceNamesKey() {
+        Map<String, String> values = Map.of("url", "${host}/path", "other", "${url}");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new Interpolation().update(values.keySet(), values::get, null));
+        assertTrue(exception.getMessage(), exception.getMessage().contains("'url'"));
+    }
+
+    @Test
+    public void testIncrementalResolutionOnlyRendersDownstreamKeys() {
+        Map<String, String> values = new HashMap<>();
+        values.put("host", "localhost");
+        values.put("port", "5432");
+        values.put("address", "${host}:${port}");
+        values.put("url", "jdbc://${address}");
+        values.put("name", "app");
+        values.put("title", "${name} service");
+        Interpolation interpolation = new Interpolation();
+        interpolation.update(values.keySet(), values::get, null);
+
+        values.put("port", "6543");
+        Set<String> affected = interpolation.update(values.keySet(), values::get, Set.of("port"));
+
+        assertEquals(Set.of("address", "url"), affected);
+        assertEquals("jdbc://localhost:6543", interpolation.getResolved().get("url"));
+        assertEquals("app service", interpolation.getResolved().get("title"));
+    }
+
+    @Test
+    public void testIncrementalResolutionTracksChangedTemplates() {
+        Map<String, String> values = new HashMap<>();
+        values.put("a", "1");
+        values.put("b", "2");
+        values.put("sum", "${a}");
+        Interpolation interpolation = new Interpolation();
+        interpolation.update(values.keySet(), values::get, null);
+
+        values.put("sum", "${b}");
+        interpolation.update(values.keySet(), values::get, Set.of("sum"));
+        assertEquals("2", interpolation.getResolved().get("sum"));
+
+        values.put("a", "3");
+        assertEquals(Set.of(), interpolation.update(values.keySet(), values::get, Set.of("a")));
+
+        values.put("sum", "${sum}");
+        assertThrows(IllegalArgumentException.class,
+                () -> interpolation.update(values.keySet(), values::get, Set.of("sum")));
+
+        values.put("sum", "${a}-${b}");
+        interpolation.update(values.keySet(), values::get, Set.of("sum"));
+        assertEquals("3-2", interpolation.getResolved().get("sum"));
+
+        values.put("sum", "plain");
+        interpolation.update(values.keySet(), values::get, Set.of("sum"));
+        assertNull(interpolation.getResolved().get("sum"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class KeyFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() {
+        Map<String, String> first = new HashMap<>();
+        Map<String, String> second = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            first.put("first.key" + i, "value");
+            second.put("second.key" + i, "value");
+        }
+        KeyFilter filter = KeyFilter.of(first, second);
+
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(filter.mightContain("first.key" + i));
+            assertTrue(filter.mightContain("second.key" + i));
+        }
+    }
+
+    @Test
+    public void testReservesAtLeastSixteenBitsPerKey() {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 1; i <= 5_000; i++) {
+            values.put("key" + i, "value");
+            long bits = KeyFilter.of(values).bitSize();
+            assertTrue(i + " keys in " + bits + " bits", bits >= 16L * i);
+            assertTrue(i + " keys in " + bits + " bits", bits == Long.SIZE || bits < 32L * i);
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            values.put("feature.flag" + i, "true");
+        }
+        KeyFilter filter = KeyFilter.of(values);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("feature.missing" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue("False positives: " + falsePositives, falsePositives < 1_000);
+    }
+
+    @Test
+    public void testEmpty() {
+        KeyFilter filter = KeyFilter.of(Map.of());
+        assertFalse(filter.mightContain("key"));
+    }
+}
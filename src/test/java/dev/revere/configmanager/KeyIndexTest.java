@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class KeyIndexTest {
+    private final KeyIndex index = KeyIndex.of(List.of(
+            "cache.redisson.host", "cache.redis.port", "cache.redis.host", "cache.ttl", "db.url", "cache.redis"));
+
+    @Test
+    public void testWithPrefix() {
+        assertEquals(List.of("cache.redis.host", "cache.redis.port"), index.withPrefix("cache.redis."));
+        assertEquals(List.of("cache.redis", "cache.redis.host", "cache.redis.port", "cache.redisson.host"),
+                index.withPrefix("cache.redis"));
+        assertEquals(6, index.withPrefix("").size());
+        assertTrue(index.withPrefix("cache.z").isEmpty());
+        assertTrue(index.withPrefix("zzz").isEmpty());
+    }
+
+    @Test
+    public void testInNamespace() {
+        assertEquals(List.of("host", "port"), index.inNamespace("cache.redis"));
+        assertEquals(List.of("url"), index.inNamespace("db"));
+        assertEquals(6, index.inNamespace("").size());
+    }
+
+    @Test
+    public void testInNamespaceIncludesArrayElements() {
+        KeyIndex servers = KeyIndex.of(List.of("servers[1].host", "servers.port", "servers[0].host", "serversx"));
+        assertEquals(List.of("port", "[0].host", "[1].host"), servers.inNamespace("servers"));
+        assertEquals(List.of("host"), servers.inNamespace("servers[0]"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class LazyConfigSourceTest {
+
+    @Test
+    public void testConcurrentFirstReadersTriggerOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryConfigSource delegate = new InMemoryConfigSource(Map.of("key", "value"));
+        delegate.setGate(release);
+        LazyConfigSource lazy = new LazyConfigSource(delegate);
+        lazy.load();
+        assertFalse(lazy.isLoaded());
+        assertThrows(UnsupportedOperationException.class, lazy::getValues);
+
+        List<Future<String>> readers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                readers.add(executor.submit(() -> lazy.getValue("key")));
+            }
+            release.countDown();
+        }
+        for (Future<String> reader : readers) {
+            assertEquals("value", reader.get());
+        }
+        assertEquals(1, delegate.getLoadCount());
+        assertTrue(lazy.isLoaded());
+        assertNotNull(lazy.getLoadDuration());
+        assertEquals(Map.of("key", "value"), lazy.getValues());
+    }
+
+    @Test
+    public void testFailedLoadIsRetried() {
+        InMemoryConfigSource delegate = new InMemoryConfigSource(Map.of("key", "value"));
+        delegate.setFailure(new IOException("Simulated failure"));
+        LazyConfigSource lazy = new LazyConfigSource(delegate);
+
+        assertThrows(UncheckedIOException.class, () -> lazy.getValue("key"));
+        assertFalse(lazy.isLoaded());
+        assertNull(lazy.getLoadDuration());
+        delegate.setFailure(null);
+        assertEquals("value", lazy.getValue("key"));
+        assertEquals(2, delegate.getLoadCount());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class TemplateTest {
+
+    @Test
+    public void testPlainValueIsNotATemplate() {
+        assertNull(Template.parse("jdbc:postgresql://localhost/app"));
+        assertNull(Template.parse("cost: $5 {approx}"));
+    }
+
+    @Test
+    public void testRendersReferencesAndDefaults() {
+        Template template = Template.parse("jdbc:postgresql://${db.host}:${db.port:5432}/${db.name:${app.name}}");
+        Map<String, String> values = Map.of("db.host", "localhost", "app.name", "orders");
+
+        assertEquals(Set.of("db.host", "db.port", "db.name", "app.name"), template.getReferences());
+        assertEquals("jdbc:postgresql://localhost:5432/orders", template.render(values::get));
+    }
+
+    @Test
+    public void testEscapedPlaceholderIsLiteral() {
+        Template template = Template.parse("$${literal} ${key}");
+
+        assertEquals(Set.of("key"), template.getReferences());
+        assertEquals("${literal} value", template.render(key -> "value"));
+    }
+
+    @Test
+    public void testEmptyDefault() {
+        assertEquals("[]", Template.parse("[${missing:}]").render(key -> null));
+    }
+
+    @Test
+    public void testMissingReferenceWithoutDefaultFails() {
+        Template template = Template.parse("${missing}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(key -> null));
+    }
+
+    @Test
+    public void testMalformedPlaceholdersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Template.parse("${unterminated"));
+        assertThrows(IllegalArgumentException.class, () -> Template.parse("${}"));
+        assertThrows(IllegalArgumentException.class, () -> Template.parse("${:default}"));
+    }
+}
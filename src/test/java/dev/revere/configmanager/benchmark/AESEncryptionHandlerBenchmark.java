@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.encryption.AESEncryptionHandler;
+import dev.revere.configmanager.util.KeyGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AESEncryptionHandler#encrypt(String)} and {@link AESEncryptionHandler#decrypt(String)}
+ * for a typical secret, and compares decryption with the previous implementation, which created a new
+ * {@link Cipher} for every call, both single-threaded and under contention from 16 threads.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AESEncryptionHandlerBenchmark {
+    private static final String PLAIN_TEXT = "jdbc-password-0123456789";
+
+    private AESEncryptionHandler encryptionHandler;
+    private SecretKey secretKey;
+    private String cipherText;
+
+    @Setup
+    public void setUp() throws Exception {
+        String key = KeyGeneratorUtil.generateKey();
+        byte[] decodedKey = Base64.getDecoder().decode(key);
+        secretKey = new SecretKeySpec(decodedKey, 0, decodedKey.length, "AES");
+        encryptionHandler = new AESEncryptionHandler(key);
+        cipherText = encryptionHandler.encrypt(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String encrypt() throws Exception {
+        return encryptionHandler.encrypt(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String decrypt() throws Exception {
+        return encryptionHandler.decrypt(cipherText);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        return decryptWithNewCipher();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String decryptContended() throws Exception {
+        return encryptionHandler.decrypt(cipherText);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String legacyDecryptContended() throws Exception {
+        return decryptWithNewCipher();
+    }
+
+    private String decryptWithNewCipher() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
+        return new String(cipher.doFinal(decodedBytes));
+    }
+}
\ No newline at end of file
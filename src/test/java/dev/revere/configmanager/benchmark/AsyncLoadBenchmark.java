@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSnapshot;
+import dev.revere.configmanager.remote.RemoteConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading remote sources whose server takes 20 ms to answer, with {@link ConfigManager#loadConfig()}
+ * against {@link ConfigManager#loadConfigAsync(java.util.concurrent.Executor)}.
+ *
+ * <p>{@code sequential} waits for each response in turn, so it takes about {@code sourceCount} times the latency.
+ * {@code async} sends every request with {@code HttpClient.sendAsync} and only parses responses on the executor.
+ * The sources have no snapshot file, so every load is a request.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncLoadBenchmark {
+    private static final long LATENCY_MILLIS = 20;
+
+    @Param({"8"})
+    private int sourceCount;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ConfigManager configManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::respond);
+        server.start();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        for (int i = 0; i < sourceCount; i++) {
+            URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/source" + i);
+            configManager.addSource(new RemoteConfigSource(uri, null));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ConfigManager sequential() throws IOException {
+        configManager.loadConfig();
+        return configManager;
+    }
+
+    @Benchmark
+    public ConfigSnapshot async() {
+        return configManager.loadConfigAsync(executor).join();
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String path = exchange.getRequestURI().getPath().substring(1);
+        byte[] body = ("{\"" + path + "\": {\"host\": \"db.internal\", \"port\": 5432}}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
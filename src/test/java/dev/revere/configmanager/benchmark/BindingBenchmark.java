@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.binding.ConfigBinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding a namespace of 200 keys onto a class with 100 {@code int} and 100 {@code String} fields.
+ *
+ * <p>{@code methodHandles} uses {@link ConfigBinder}, which compiles its field setters once per type.
+ * {@code reflectionCached} converts the same values and assigns them with {@link Field#set} on fields looked up
+ * once, and {@code reflectionUncached} also looks the fields up and makes them accessible on every bind, as a
+ * naive reflective binder does.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingBenchmark {
+    private static final String NAMESPACE = "app.";
+
+    private final Map<String, String> values = new HashMap<>();
+    private ConfigBinder<WideSettings> binder;
+    private Field[] fields;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 100; i++) {
+            values.put(NAMESPACE + "i" + i, Integer.toString(i));
+            values.put(NAMESPACE + "s" + i, "value" + i);
+        }
+        binder = ConfigBinder.of(WideSettings.class);
+        fields = bindableFields();
+    }
+
+    @Benchmark
+    public WideSettings methodHandles() {
+        return binder.bind(values::get, NAMESPACE);
+    }
+
+    @Benchmark
+    public WideSettings reflectionCached() throws ReflectiveOperationException {
+        return bindReflectively(fields);
+    }
+
+    @Benchmark
+    public WideSettings reflectionUncached() throws ReflectiveOperationException {
+        return bindReflectively(bindableFields());
+    }
+
+    private WideSettings bindReflectively(Field[] fields) throws ReflectiveOperationException {
+        WideSettings settings = WideSettings.class.getDeclaredConstructor().newInstance();
+        for (Field field : fields) {
+            String value = values.get(NAMESPACE + field.getName());
+            if (value != null) {
+                field.set(settings, field.getType() == int.class ? (Object) Integer.parseInt(value) : value);
+            }
+        }
+        return settings;
+    }
+
+    private static Field[] bindableFields() {
+        List<Field> bindable = new ArrayList<>();
+        for (Field field : WideSettings.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                bindable.add(field);
+            }
+        }
+        return bindable.toArray(new Field[0]);
+    }
+
+    /**
+     * A settings class with 200 bound fields.
+     */
+    public static class WideSettings {
+        public int i0, i1, i2, i3, i4, i5, i6, i7, i8, i9, i10, i11, i12, i13, i14, i15, i16, i17, i18, i19, i20, i21,
+                i22, i23, i24, i25, i26, i27, i28, i29, i30, i31, i32, i33, i34, i35, i36, i37, i38, i39, i40, i41,
+                i42, i43, i44, i45, i46, i47, i48, i49, i50, i51, i52, i53, i54, i55, i56, i57, i58, i59, i60, i61,
+                i62, i63, i64, i65, i66, i67, i68, i69, i70, i71, i72, i73, i74, i75, i76, i77, i78, i79, i80, i81,
+                i82, i83, i84, i85, i86, i87, i88, i89, i90, i91, i92, i93, i94, i95, i96, i97, i98, i99;
+        public String s0, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21,
+                s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32, s33, s34, s35, s36, s37, s38, s39, s40, s41,
+                s42, s43, s44, s45, s46, s47, s48, s49, s50, s51, s52, s53, s54, s55, s56, s57, s58, s59, s60, s61,
+                s62, s63, s64, s65, s66, s67, s68, s69, s70, s71, s72, s73, s74, s75, s76, s77, s78, s79, s80, s81,
+                s82, s83, s84, s85, s86, s87, s88, s89, s90, s91, s92, s93, s94, s95, s96, s97, s98, s99;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.format.BinaryConfigCompiler;
+import dev.revere.configmanager.format.JsonConfigSource;
+import dev.revere.configmanager.format.MappedConfigSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cold start and resident heap of a large configuration loaded through {@link JsonConfigSource}
+ * against the same configuration compiled by {@link BinaryConfigCompiler} and mapped by
+ * {@link MappedConfigSource}.
+ *
+ * <p>The {@code load*} benchmarks measure the time of a single load. The {@code retainedHeap*} benchmarks report
+ * the heap still reachable after loading through the {@code retainedBytes} counter.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompiledConfigBenchmark {
+    @Param({"100000", "500000"})
+    private int keyCount;
+
+    private File jsonFile;
+    private File compiledFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            values.put("generated.section" + (i % 100) + ".key" + i, "value-" + i);
+        }
+        jsonFile = File.createTempFile("config", ".json");
+        new ObjectMapper().writeValue(jsonFile, values);
+        compiledFile = File.createTempFile("config", ".bin");
+        BinaryConfigCompiler.compile(values, compiledFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jsonFile.delete();
+        compiledFile.delete();
+    }
+
+    @Benchmark
+    public ConfigSource loadJson() throws IOException {
+        JsonConfigSource source = new JsonConfigSource(jsonFile);
+        source.load();
+        return source;
+    }
+
+    @Benchmark
+    public ConfigSource loadMapped() throws IOException {
+        MappedConfigSource source = new MappedConfigSource(compiledFile);
+        source.load();
+        return source;
+    }
+
+    @Benchmark
+    public String loadJsonAndRead() throws IOException {
+        return loadJson().getValue("generated.section7.key7");
+    }
+
+    @Benchmark
+    public String loadMappedAndRead() throws IOException {
+        return loadMapped().getValue("generated.section7.key7");
+    }
+
+    @Benchmark
+    public ConfigSource retainedHeapJson(HeapCounters counters) throws IOException {
+        long before = counters.usedHeap();
+        ConfigSource source = loadJson();
+        counters.retainedBytes = counters.usedHeap() - before;
+        return source;
+    }
+
+    @Benchmark
+    public ConfigSource retainedHeapMapped(HeapCounters counters) throws IOException {
+        long before = counters.usedHeap();
+        ConfigSource source = loadMapped();
+        counters.retainedBytes = counters.usedHeap() - before;
+        return source;
+    }
+
+    /**
+     * Reports heap usage measured after a full collection.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        public long retainedBytes;
+
+        long usedHeap() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
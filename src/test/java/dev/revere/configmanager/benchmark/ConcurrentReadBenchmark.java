@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConfigManager#getValue(String)} throughput at 1, 8 and 64 reader threads while a background
+ * thread continuously reloads the configuration and publishes new snapshots.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentReadBenchmark {
+    private static final int SOURCE_COUNT = 10;
+    private static final int KEYS_PER_SOURCE = 1_000;
+
+    @Param({"SEQUENTIAL", "INDEXED"})
+    private ConfigManager.LookupMode lookupMode;
+
+    @Param({"true", "false"})
+    private boolean reloading;
+
+    private ConfigManager configManager;
+    private String key;
+    private Thread reloader;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() throws IOException {
+        configManager = new ConfigManager(lookupMode);
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            configManager.addSource(InMemoryConfigSource.generate("source" + i, KEYS_PER_SOURCE));
+        }
+        configManager.loadConfig();
+        key = "source" + (SOURCE_COUNT - 1) + ".key" + (KEYS_PER_SOURCE / 2);
+
+        if (reloading) {
+            running = true;
+            reloader = new Thread(() -> {
+                while (running) {
+                    try {
+                        configManager.loadConfig();
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }, "config-reloader");
+            reloader.setDaemon(true);
+            reloader.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        if (reloader != null) {
+            reloader.join();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String readers1() {
+        return configManager.getValue(key);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String readers8() {
+        return configManager.getValue(key);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String readers64() {
+        return configManager.getValue(key);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConfigManager#getValue(String)} as the number of registered sources grows.
+ *
+ * <p>With {@link ConfigManager.LookupMode#SEQUENTIAL} the cost of a miss, or of a key held only by the last
+ * source, grows linearly with the source count. With {@link ConfigManager.LookupMode#INDEXED} it should stay
+ * flat.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigManagerBenchmark {
+    private static final int KEYS_PER_SOURCE = 100;
+
+    @Param({"1", "5", "10", "25", "50"})
+    private int sourceCount;
+
+    @Param({"SEQUENTIAL", "INDEXED"})
+    private ConfigManager.LookupMode lookupMode;
+
+    private ConfigManager configManager;
+    private String firstSourceKey;
+    private String lastSourceKey;
+    private String missingKey;
+
+    @Setup
+    public void setUp() throws IOException {
+        configManager = new ConfigManager(lookupMode);
+        for (int i = 0; i < sourceCount; i++) {
+            configManager.addSource(InMemoryConfigSource.generate("source" + i, KEYS_PER_SOURCE));
+        }
+        configManager.loadConfig();
+
+        firstSourceKey = "source0.key" + (KEYS_PER_SOURCE / 2);
+        lastSourceKey = "source" + (sourceCount - 1) + ".key" + (KEYS_PER_SOURCE / 2);
+        missingKey = "missing.key";
+    }
+
+    @Benchmark
+    public String hitFirstSource() {
+        return configManager.getValue(firstSourceKey);
+    }
+
+    @Benchmark
+    public String hitLastSource() {
+        return configManager.getValue(lastSourceKey);
+    }
+
+    @Benchmark
+    public String miss() {
+        return configManager.getValue(missingKey);
+    }
+}
\ No newline at end of file
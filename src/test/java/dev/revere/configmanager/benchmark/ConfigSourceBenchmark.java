@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.format.JsonConfigSource;
+import dev.revere.configmanager.format.PropertiesConfigSource;
+import dev.revere.configmanager.format.YamlConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConfigSource#load()} and {@link ConfigSource#getValue(String)} for the JSON, YAML and
+ * properties sources across small (10 keys), medium (1,000 keys) and huge (100,000 keys) files.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigSourceBenchmark {
+    @Param({"json", "yaml", "properties"})
+    private String format;
+
+    @Param({"small", "medium", "huge"})
+    private String size;
+
+    private File file;
+    private ConfigSource source;
+    private String hitKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int keyCount = switch (size) {
+            case "small" -> 10;
+            case "medium" -> 1_000;
+            case "huge" -> 100_000;
+            default -> throw new IllegalArgumentException("Unknown size: " + size);
+        };
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            values.put("section" + (i % 10) + ".key" + i, "value-" + i);
+        }
+        hitKey = "section" + ((keyCount / 2) % 10) + ".key" + (keyCount / 2);
+
+        file = File.createTempFile("config", "." + format);
+        switch (format) {
+            case "json" -> new ObjectMapper().writeValue(file, values);
+            case "yaml" -> {
+                try (Writer writer = new FileWriter(file)) {
+                    for (Map.Entry<String, String> entry : values.entrySet()) {
+                        writer.write(entry.getKey() + ": \"" + entry.getValue() + "\"\n");
+                    }
+                }
+            }
+            case "properties" -> {
+                Properties properties = new Properties();
+                properties.putAll(values);
+                try (Writer writer = new FileWriter(file)) {
+                    properties.store(writer, null);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        }
+
+        source = newSource();
+        source.load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public ConfigSource load() throws IOException {
+        ConfigSource fresh = newSource();
+        fresh.load();
+        return fresh;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String getValueHit() {
+        return source.getValue(hitKey);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String getValueMiss() {
+        return source.getValue("missing.key");
+    }
+
+    private ConfigSource newSource() {
+        return switch (format) {
+            case "json" -> new JsonConfigSource(file);
+            case "yaml" -> new YamlConfigSource(file);
+            default -> new PropertiesConfigSource(file);
+        };
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.validation.ConfigValidator;
+import dev.revere.configmanager.validation.Violation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConfigValidator#validate(Map)} on schemas of increasing size where half of the fields are
+ * integers, against the previous implementation that matched every integer with {@code String.matches}.
+ *
+ * <p>{@code rangedIntegers} uses {@code integer(0..1000000)} specifications to include the cost of range
+ * checks, {@code findViolations} measures collecting every violation instead of stopping early, and
+ * {@code validateOneChangedKey} measures the incremental re-validation performed after a reload that changed a
+ * single key.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigValidatorBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int fieldCount;
+
+    @Param({"false", "true"})
+    private boolean rangedIntegers;
+
+    private Map<String, String> schema;
+    private ConfigValidator validator;
+    private Map<String, String> config;
+    private Set<String> changedKeys;
+
+    @Setup
+    public void setUp() {
+        schema = new HashMap<>();
+        config = new HashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            String key = "field" + i;
+            if (i % 2 == 0) {
+                schema.put(key, rangedIntegers ? "integer(0..1000000)" : "integer");
+                config.put(key, String.valueOf(i * 31));
+            } else {
+                schema.put(key, "string");
+                config.put(key, "value" + i);
+            }
+        }
+        validator = new ConfigValidator(schema);
+        changedKeys = Set.of("field" + (fieldCount / 2));
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return validator.validate(config);
+    }
+
+    @Benchmark
+    public List<Violation> findViolations() {
+        return validator.findViolations(config);
+    }
+
+    @Benchmark
+    public List<Violation> validateOneChangedKey() {
+        return validator.getPlan().validateChanged(changedKeys, config::get);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        for (Map.Entry<String, String> entry : schema.entrySet()) {
+            String value = config.get(entry.getKey());
+            if (value == null) {
+                return false;
+            }
+            if (entry.getValue().startsWith("integer") && !value.matches("\\d+")) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.env.EnvironmentConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups of 1,000 keys when environment variables may override them.
+ *
+ * <p>{@code indexed} registers an {@link EnvironmentConfigSource} with the highest precedence, so the overrides
+ * are merged into the manager's index at load. {@code getenvOnRead} checks {@link System#getenv(String)} for the
+ * mapped variable name on every read before falling back to the manager, as ad-hoc override code does.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentOverrideBenchmark {
+    private static final int KEY_COUNT = 1_024;
+
+    private ConfigManager withEnvironment;
+    private ConfigManager withoutEnvironment;
+    private final String[] keys = new String[KEY_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        withEnvironment = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        withEnvironment.addSource(InMemoryConfigSource.generate("app", KEY_COUNT));
+        withEnvironment.addSource(0, new EnvironmentConfigSource());
+        withEnvironment.loadConfig();
+
+        withoutEnvironment = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        withoutEnvironment.addSource(InMemoryConfigSource.generate("app", KEY_COUNT));
+        withoutEnvironment.loadConfig();
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "app.key" + i;
+        }
+    }
+
+    @Benchmark
+    public String indexed() {
+        return withEnvironment.getValue(keys[next++ & (KEY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public String getenvOnRead() {
+        String key = keys[next++ & (KEY_COUNT - 1)];
+        String override = System.getenv(EnvironmentConfigSource.toVariableName(key));
+        return override != null ? override : withoutEnvironment.getValue(key);
+    }
+}
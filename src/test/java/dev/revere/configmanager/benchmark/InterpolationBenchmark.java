@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reads and reloads of a configuration with 10,000 templated values of the form
+ * {@code http://${svc<n>.host}:${svc.port}}.
+ *
+ * <p>{@code interpolated} reads a resolved value from the snapshot, while {@code substituteOnRead} reads the
+ * stored template and substitutes its placeholders on every read, as consumers had to without interpolation;
+ * it is only meaningful with {@code OFF}, since the stored value is already resolved otherwise.
+ * {@code reload} reloads a source that changes either one host, which one template depends on, or the shared
+ * port, which every template depends on; {@code OFF} measures the same reload without interpolation.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpolationBenchmark {
+    private static final int SERVICE_COUNT = 10_000;
+
+    public enum Change { OFF, SINGLE_KEY, SHARED_KEY }
+
+    @Param({"OFF", "SINGLE_KEY", "SHARED_KEY"})
+    private Change change;
+
+    private ConfigManager configManager;
+    private InMemoryConfigSource overrides;
+    private Map<String, String> original;
+    private Map<String, String> changed;
+    private boolean toggled;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Map<String, String> services = new HashMap<>();
+        for (int i = 0; i < SERVICE_COUNT; i++) {
+            services.put("svc" + i + ".host", "host" + i);
+            services.put("svc" + i + ".url", "http://${svc" + i + ".host}:${svc.port}");
+        }
+        original = Map.of("svc.port", "8080");
+        changed = change == Change.SHARED_KEY
+                ? Map.of("svc.port", "9090")
+                : Map.of("svc.port", "8080", "svc0.host", "changed");
+        overrides = new InMemoryConfigSource(original);
+
+        configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        configManager.addSource(overrides);
+        configManager.addSource(new InMemoryConfigSource(services));
+        configManager.setInterpolation(change != Change.OFF);
+        configManager.loadConfig();
+    }
+
+    @Benchmark
+    public String interpolated() {
+        return configManager.getValue("svc" + (next++ & 1023) + ".url");
+    }
+
+    @Benchmark
+    public String substituteOnRead() {
+        String value = configManager.getSnapshot().getRawValue("svc" + (next++ & 1023) + ".url");
+        StringBuilder result = new StringBuilder();
+        int position = 0;
+        int start;
+        while ((start = value.indexOf("${", position)) >= 0) {
+            int end = value.indexOf('}', start);
+            result.append(value, position, start).append(configManager.getValue(value.substring(start + 2, end)));
+            position = end + 1;
+        }
+        return result.append(value, position, value.length()).toString();
+    }
+
+    @Benchmark
+    public long reload() throws IOException {
+        toggled = !toggled;
+        overrides.setNext(toggled ? changed : original);
+        configManager.reloadSource(overrides);
+        return configManager.getSnapshot().getVersion();
+    }
+}
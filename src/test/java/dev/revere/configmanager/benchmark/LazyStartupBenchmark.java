@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.LazyConfigSource;
+import dev.revere.configmanager.format.JsonConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time until a service can read its first configuration value when it registers one small
+ * primary file and four large secondary files, with the secondary files loaded eagerly or through
+ * {@link LazyConfigSource}.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LazyStartupBenchmark {
+    private static final int SECONDARY_FILES = 4;
+    private static final int SECONDARY_KEYS = 100_000;
+
+    @Param({"true", "false"})
+    private boolean lazy;
+
+    private File primary;
+    private final List<File> secondaries = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        primary = File.createTempFile("primary", ".json");
+        mapper.writeValue(primary, Map.of("service.port", "8080"));
+        for (int file = 0; file < SECONDARY_FILES; file++) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < SECONDARY_KEYS; i++) {
+                values.put("secondary" + file + ".key" + i, "value-" + i);
+            }
+            File secondary = File.createTempFile("secondary", ".json");
+            mapper.writeValue(secondary, values);
+            secondaries.add(secondary);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        primary.delete();
+        secondaries.forEach(File::delete);
+    }
+
+    @Benchmark
+    public String timeToFirstLookup() throws IOException {
+        ConfigManager configManager = new ConfigManager();
+        configManager.addSource(new JsonConfigSource(primary));
+        for (File secondary : secondaries) {
+            ConfigSource source = new JsonConfigSource(secondary);
+            configManager.addSource(lazy ? new LazyConfigSource(source) : source);
+        }
+        configManager.loadConfig();
+        return configManager.getValue("service.port");
+    }
+}
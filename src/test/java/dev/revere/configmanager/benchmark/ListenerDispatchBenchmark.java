@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.event.ListenerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures {@link ListenerRegistry#dispatch} with thousands of registered listeners, one exact-key listener per
+ * key plus a prefix listener per namespace, for reloads that change 1 or 100 keys.
+ *
+ * <p>Listeners run inline ({@code Runnable::run}) so that the score covers matching, batching and delivery
+ * without thread hand-off.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerDispatchBenchmark {
+    private static final int NAMESPACES = 100;
+
+    @Param({"1000", "10000"})
+    private int listenerCount;
+
+    @Param({"1", "100"})
+    private int changedKeyCount;
+
+    private final LongAdder delivered = new LongAdder();
+    private ListenerRegistry registry;
+    private List<String> changedKeys;
+    private Map<String, String> even;
+    private Map<String, String> odd;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        registry = new ListenerRegistry();
+        registry.setExecutor(Runnable::run);
+        for (int i = 0; i < listenerCount; i++) {
+            registry.subscribe(key(i), event -> delivered.increment());
+        }
+        for (int i = 0; i < NAMESPACES; i++) {
+            registry.subscribePrefix("service" + i, event -> delivered.increment());
+        }
+
+        changedKeys = new ArrayList<>();
+        even = new HashMap<>();
+        odd = new HashMap<>();
+        for (int i = 0; i < changedKeyCount; i++) {
+            String key = key(i * (listenerCount / changedKeyCount));
+            changedKeys.add(key);
+            even.put(key, "a");
+            odd.put(key, "b");
+        }
+    }
+
+    @Benchmark
+    public long dispatch() {
+        flip = !flip;
+        Map<String, String> before = flip ? even : odd;
+        Map<String, String> after = flip ? odd : even;
+        registry.dispatch(before::get, after::get, changedKeys, true);
+        return delivered.sum();
+    }
+
+    private static String key(int i) {
+        return "service" + (i % NAMESPACES) + ".setting" + i;
+    }
+}
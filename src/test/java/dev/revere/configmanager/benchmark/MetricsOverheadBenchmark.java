@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSnapshot;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.metrics.ConfigMetrics;
+import dev.revere.configmanager.metrics.CounterMetrics;
+import dev.revere.configmanager.metrics.JfrConfigMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of instrumenting {@link ConfigManager#getValue(String)} with each {@link ConfigMetrics}
+ * implementation.
+ *
+ * <p>With {@code NOOP}, the metrics hook is skipped, so {@code instrumented} shows the cost of the default.
+ * {@code JFR} is measured without a running recording. {@code rawSnapshotRead} bypasses the manager, the lookup
+ * statistics and decryption and is shown for reference.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    @Param({"NOOP", "COUNTERS", "HISTOGRAMS", "JFR"})
+    private String metrics;
+
+    @Param({"SEQUENTIAL", "INDEXED"})
+    private ConfigManager.LookupMode lookupMode;
+
+    private ConfigManager configManager;
+    private ConfigSnapshot snapshot;
+    private final String key = "source4.key500";
+
+    @Setup
+    public void setUp() throws IOException {
+        configManager = new ConfigManager(lookupMode);
+        for (int i = 0; i < 5; i++) {
+            configManager.addSource(InMemoryConfigSource.generate("source" + i, 1_000));
+        }
+        configManager.loadConfig();
+        configManager.setMetrics(switch (metrics) {
+            case "COUNTERS" -> new CounterMetrics();
+            case "HISTOGRAMS" -> new CounterMetrics(true);
+            case "JFR" -> new JfrConfigMetrics();
+            default -> ConfigMetrics.NOOP;
+        });
+        snapshot = configManager.getSnapshot();
+    }
+
+    @Benchmark
+    public String instrumented() {
+        return configManager.getValue(key);
+    }
+
+    @Benchmark
+    public String rawSnapshotRead() {
+        return snapshot.getRawValue(key);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.LookupStatistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups over 10 sources of 1,000 keys each when a configurable fraction of the requested keys
+ * exist, as with feature flags that are mostly unset.
+ *
+ * <p>{@code filtered} goes through the manager, whose sequential snapshot rejects most misses with its key
+ * filter. {@code linear} probes every source in order, as the manager did without the filter. The
+ * {@code hits}, {@code misses} and {@code filteredMisses} counters are taken from the manager's
+ * {@link LookupStatistics}.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissLookupBenchmark {
+    private static final int SOURCE_COUNT = 10;
+    private static final int KEYS_PER_SOURCE = 1_000;
+    private static final int REQUESTS = 1_024;
+
+    @Param({"0.0", "0.1", "0.5", "0.9"})
+    private double hitRatio;
+
+    private ConfigManager configManager;
+    private List<ConfigSource> sources;
+    private final String[] keys = new String[REQUESTS];
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        configManager = new ConfigManager();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            configManager.addSource(InMemoryConfigSource.generate("source" + i, KEYS_PER_SOURCE));
+        }
+        configManager.loadConfig();
+        sources = configManager.getSources();
+        for (int i = 0; i < REQUESTS; i++) {
+            boolean hit = i < REQUESTS * hitRatio;
+            keys[i] = (hit ? "source" : "flag") + (i % SOURCE_COUNT) + ".key" + (i % KEYS_PER_SOURCE);
+        }
+    }
+
+    @Benchmark
+    public String filtered(FilterCounters counters) {
+        return configManager.getValue(keys[next++ & (REQUESTS - 1)]);
+    }
+
+    @Benchmark
+    public String linear() {
+        String key = keys[next++ & (REQUESTS - 1)];
+        for (ConfigSource source : sources) {
+            String value = source.getValue(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reports the manager's lookup counters for each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FilterCounters {
+        public long hits;
+        public long misses;
+        public long filteredMisses;
+
+        @Setup(Level.Iteration)
+        public void reset(MissLookupBenchmark benchmark) {
+            benchmark.configManager.getLookupStatistics().reset();
+        }
+
+        @TearDown(Level.Iteration)
+        public void record(MissLookupBenchmark benchmark) {
+            LookupStatistics statistics = benchmark.configManager.getLookupStatistics();
+            hits = statistics.getHits();
+            misses = statistics.getMisses();
+            filteredMisses = statistics.getFilteredMisses();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.format.FileConfigSource;
+import dev.revere.configmanager.format.JsonConfigSource;
+import dev.revere.configmanager.format.YamlConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming JSON and YAML loaders with building a full document tree and flattening it afterwards,
+ * on nested files of 1,000 and 100,000 leaf values.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per load ({@code gc.alloc.rate.norm}).</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedDocumentBenchmark {
+    private static final int SERVICES = 10;
+    private static final int SETTINGS_PER_GROUP = 10;
+
+    @Param({"json", "yaml"})
+    private String format;
+
+    @Param({"1000", "100000"})
+    private int leafCount;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("nested", "." + format);
+        int groups = Math.max(1, leafCount / (SERVICES * SETTINGS_PER_GROUP));
+        try (Writer writer = new FileWriter(file)) {
+            if (format.equals("json")) {
+                writeJson(writer, groups);
+            } else {
+                writeYaml(writer, groups);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public ConfigSource streaming() throws IOException {
+        FileConfigSource source = format.equals("json") ? new JsonConfigSource(file) : new YamlConfigSource(file);
+        source.load();
+        return source;
+    }
+
+    @Benchmark
+    public Map<String, String> tree() throws IOException {
+        Map<String, String> values = new HashMap<>();
+        if (format.equals("json")) {
+            flattenJson("", new ObjectMapper().readTree(file), values);
+        } else {
+            try (InputStream in = new FileInputStream(file)) {
+                flattenYaml("", new Yaml().load(in), values);
+            }
+        }
+        return values;
+    }
+
+    private static void writeJson(Writer writer, int groups) throws IOException {
+        writer.write("{");
+        for (int s = 0; s < SERVICES; s++) {
+            writer.write((s > 0 ? "," : "") + "\"service" + s + "\":{");
+            for (int g = 0; g < groups; g++) {
+                writer.write((g > 0 ? "," : "") + "\"group" + g + "\":{");
+                for (int k = 0; k < SETTINGS_PER_GROUP; k++) {
+                    writer.write((k > 0 ? "," : "") + "\"setting" + k + "\":\"value-" + k + "\"");
+                }
+                writer.write("}");
+            }
+            writer.write("}");
+        }
+        writer.write("}");
+    }
+
+    private static void writeYaml(Writer writer, int groups) throws IOException {
+        for (int s = 0; s < SERVICES; s++) {
+            writer.write("service" + s + ":\n");
+            for (int g = 0; g < groups; g++) {
+                writer.write("  group" + g + ":\n");
+                for (int k = 0; k < SETTINGS_PER_GROUP; k++) {
+                    writer.write("    setting" + k + ": value-" + k + "\n");
+                }
+            }
+        }
+    }
+
+    private static void flattenJson(String prefix, JsonNode node, Map<String, String> values) {
+        if (node.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                flattenJson(prefix.isEmpty() ? field.getKey() : prefix + "." + field.getKey(), field.getValue(), values);
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                flattenJson(prefix + "[" + i + "]", node.get(i), values);
+            }
+        } else if (!node.isNull()) {
+            values.put(prefix, node.asText());
+        }
+    }
+
+    private static void flattenYaml(String prefix, Object node, Map<String, String> values) {
+        if (node instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                flattenYaml(prefix.isEmpty() ? String.valueOf(entry.getKey()) : prefix + "." + entry.getKey(),
+                        entry.getValue(), values);
+            }
+        } else if (node instanceof List<?> list) {
+            for (int i = 0; i < list.size(); i++) {
+                flattenYaml(prefix + "[" + i + "]", list.get(i), values);
+            }
+        } else if (node != null) {
+            values.put(prefix, node.toString());
+        }
+    }
+}
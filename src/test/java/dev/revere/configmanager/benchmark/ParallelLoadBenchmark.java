@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.format.JsonConfigSource;
+import dev.revere.configmanager.format.YamlConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the wall-clock time of {@link ConfigManager#loadConfig()} against
+ * {@link ConfigManager#loadConfigParallel()} for a dozen JSON and YAML files of 10,000 keys each.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelLoadBenchmark {
+    private static final int KEYS_PER_FILE = 10_000;
+
+    @Param({"12"})
+    private int fileCount;
+
+    private final List<File> files = new ArrayList<>();
+    private ConfigManager configManager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        for (int i = 0; i < fileCount; i++) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int k = 0; k < KEYS_PER_FILE; k++) {
+                values.put("file" + i + ".key" + k, "value-" + k);
+            }
+            boolean json = i % 2 == 0;
+            File file = File.createTempFile("config", json ? ".json" : ".yaml");
+            if (json) {
+                new ObjectMapper().writeValue(file, values);
+                configManager.addSource(new JsonConfigSource(file));
+            } else {
+                try (Writer writer = new FileWriter(file)) {
+                    for (Map.Entry<String, String> entry : values.entrySet()) {
+                        writer.write(entry.getKey() + ": \"" + entry.getValue() + "\"\n");
+                    }
+                }
+                configManager.addSource(new YamlConfigSource(file));
+            }
+            files.add(file);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        files.forEach(File::delete);
+    }
+
+    @Benchmark
+    public ConfigManager sequential() throws IOException {
+        configManager.loadConfig();
+        return configManager;
+    }
+
+    @Benchmark
+    public ConfigManager parallel() throws IOException {
+        configManager.loadConfigParallel();
+        return configManager;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSnapshot;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.ScopedConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures enumerating one namespace of a configuration with 1,000,000 keys (1,000 namespaces of 1,000 keys),
+ * through the snapshot's sorted key index and through a linear scan over every key.
+ *
+ * <p>{@code buildIndex} measures the one-off cost of building the key index for a new snapshot.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PrefixScanBenchmark {
+    private static final int NAMESPACES = 1_000;
+
+    @Param({"1000000"})
+    private int keyCount;
+
+    private ConfigManager configManager;
+    private Map<String, String> values;
+    private ScopedConfig scope;
+    private String prefix;
+
+    @Setup
+    public void setUp() throws IOException {
+        values = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            values.put("namespace" + (i % NAMESPACES) + ".key" + i, "value" + i);
+        }
+        configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        configManager.addSource(new InMemoryConfigSource(values));
+        configManager.loadConfig();
+
+        prefix = "namespace" + (NAMESPACES / 2) + ".";
+        scope = configManager.scope("namespace" + (NAMESPACES / 2));
+        configManager.getSnapshot().getKeys("");
+    }
+
+    @Benchmark
+    public void indexedScan(Blackhole blackhole) {
+        for (String key : configManager.getSnapshot().getKeys(prefix)) {
+            blackhole.consume(key);
+        }
+    }
+
+    @Benchmark
+    public void scopedKeys(Blackhole blackhole) {
+        for (String key : scope.getKeys()) {
+            blackhole.consume(key);
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (String key : values.keySet()) {
+            if (key.startsWith(prefix)) {
+                blackhole.consume(key);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public int buildIndex() throws IOException {
+        configManager.loadConfig();
+        ConfigSnapshot snapshot = configManager.getSnapshot();
+        return snapshot.getKeys(prefix).size();
+    }
+}
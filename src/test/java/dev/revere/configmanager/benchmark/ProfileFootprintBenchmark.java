@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.format.JsonConfigSource;
+import dev.revere.configmanager.util.StringPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by 1,000 near-identical profile files, each loaded by its own
+ * {@link JsonConfigSource}, with and without string deduplication.
+ *
+ * <p>Every profile repeats the same 200 keys and differs from the others in only a few values, which is how
+ * per-tenant or per-environment overrides usually look. The heap still reachable after loading is reported
+ * through the {@code retainedBytes} counter.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProfileFootprintBenchmark {
+    private static final int PROFILE_COUNT = 1_000;
+    private static final int KEYS_PER_PROFILE = 200;
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    private File directory;
+    private List<File> files;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("profiles").toFile();
+        files = new ArrayList<>();
+        ObjectMapper mapper = new ObjectMapper();
+        for (int profile = 0; profile < PROFILE_COUNT; profile++) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < KEYS_PER_PROFILE; i++) {
+                values.put("service.section" + (i % 10) + ".setting" + i, "shared-value-" + i);
+            }
+            values.put("service.name", "tenant-" + profile);
+            values.put("service.section0.setting0", "override-" + (profile % 7));
+            File file = new File(directory, "profile" + profile + ".json");
+            mapper.writeValue(file, values);
+            files.add(file);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        files.forEach(File::delete);
+        directory.delete();
+    }
+
+    @Benchmark
+    public List<ConfigSource> retainedHeap(CompiledConfigBenchmark.HeapCounters counters) throws IOException {
+        long before = counters.usedHeap();
+        List<ConfigSource> sources = new ArrayList<>(files.size());
+        StringPool pool = pooled ? new StringPool() : null;
+        for (File file : files) {
+            JsonConfigSource source = new JsonConfigSource(file);
+            source.setStringPool(pool);
+            source.load();
+            sources.add(source);
+        }
+        counters.retainedBytes = counters.usedHeap() - before;
+        return sources;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.profile.ProfileContext;
+import dev.revere.configmanager.profile.ProfileManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures per-request profile resolution with 8 threads, each serving a different tenant.
+ *
+ * <p>{@code synchronizedWrapper} serves every request through one lock that activates the tenant's profiles
+ * and reads a value, which is what per-request profiles require when only a single active stack exists.
+ * {@code context} resolves the tenant's cached {@link ProfileContext} and reads from it, and {@code bound}
+ * additionally binds the context to the thread for the duration of the request.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ProfileResolutionBenchmark {
+    private static final int TENANTS = 64;
+
+    private final ProfileManager profileManager = new ProfileManager();
+    private final AtomicInteger nextTenant = new AtomicInteger();
+
+    @Setup
+    public void setUp() throws IOException {
+        profileManager.addProfile("base", InMemoryConfigSource.generate("base", 1_000));
+        for (int i = 0; i < TENANTS; i++) {
+            profileManager.addProfile("tenant" + i, InMemoryConfigSource.generate("tenant" + i, 100));
+        }
+        profileManager.activateProfile("base");
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+        String tenant;
+        String key;
+
+        @Setup
+        public void setUp(ProfileResolutionBenchmark benchmark) {
+            int index = benchmark.nextTenant.getAndIncrement() % TENANTS;
+            tenant = "tenant" + index;
+            key = "tenant" + index + ".key50";
+        }
+    }
+
+    @Benchmark
+    public String synchronizedWrapper(Request request) throws IOException {
+        synchronized (profileManager) {
+            profileManager.activateProfiles("base", request.tenant);
+            return profileManager.getProfileValue(request.key);
+        }
+    }
+
+    @Benchmark
+    public String context(Request request) throws IOException {
+        return profileManager.context("base", request.tenant).getValue(request.key);
+    }
+
+    @Benchmark
+    public String bound(Request request) throws Exception {
+        return profileManager.callWithProfiles(profileManager.context("base", request.tenant),
+                () -> profileManager.getProfileValue(request.key));
+    }
+}
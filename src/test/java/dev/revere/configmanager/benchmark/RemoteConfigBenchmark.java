@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.revere.configmanager.remote.RemoteConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reloading a 1,000-key document from a local HTTP server.
+ *
+ * <p>{@code conditional} revalidates against a server that honours {@code If-None-Match} and answers
+ * {@code 304 Not Modified}. {@code unconditional} reloads from a server that ignores it, so every reload transfers,
+ * parses and persists the whole document. {@code startupFromSnapshot} loads a new source from the persisted
+ * snapshot without contacting the server.</p>
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoteConfigBenchmark {
+    private static final int KEY_COUNT = 1_000;
+    private static final String ETAG = "\"v1\"";
+
+    private HttpServer server;
+    private File directory;
+    private byte[] document;
+    private RemoteConfigSource conditional;
+    private RemoteConfigSource unconditional;
+    private URI conditionalUri;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < KEY_COUNT; i++) {
+            json.append(i == 0 ? "" : ",").append("\"app.key").append(i).append("\":\"value").append(i).append('"');
+        }
+        document = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/conditional", exchange -> respond(exchange, true));
+        server.createContext("/unconditional", exchange -> respond(exchange, false));
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        conditionalUri = URI.create(base + "/conditional");
+
+        directory = Files.createTempDirectory("remote-benchmark").toFile();
+        conditional = new RemoteConfigSource(conditionalUri, new File(directory, "conditional.json"));
+        conditional.load();
+        unconditional = new RemoteConfigSource(URI.create(base + "/unconditional"),
+                new File(directory, "unconditional.json"));
+        unconditional.load();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public String conditional() throws IOException {
+        conditional.load();
+        return conditional.getValue("app.key1");
+    }
+
+    @Benchmark
+    public String unconditional() throws IOException {
+        unconditional.load();
+        return unconditional.getValue("app.key1");
+    }
+
+    @Benchmark
+    public String startupFromSnapshot() throws IOException {
+        RemoteConfigSource source = new RemoteConfigSource(conditionalUri, new File(directory, "conditional.json"));
+        source.load();
+        return source.getValue("app.key1");
+    }
+
+    private void respond(HttpExchange exchange, boolean honourETag) throws IOException {
+        if (honourETag && ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.sendResponseHeaders(200, document.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(document);
+        }
+    }
+}
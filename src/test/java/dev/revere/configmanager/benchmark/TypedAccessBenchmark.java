@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.benchmark;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.util.ValueParserUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached typed accessors of {@link ConfigManager} with parsing the raw string on every read.
+ * Run with {@code -prof gc} to compare allocation rates.
+ *
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypedAccessBenchmark {
+    private ConfigManager configManager;
+
+    @Setup
+    public void setUp() throws IOException {
+        configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        configManager.addSource(new InMemoryConfigSource(Map.of(
+                "server.port", "8080",
+                "server.timeout", "PT30S",
+                "server.buffer", "64KB")));
+        configManager.loadConfig();
+    }
+
+    @Benchmark
+    public int parseIntEachRead() {
+        return Integer.parseInt(configManager.getValue("server.port"));
+    }
+
+    @Benchmark
+    public int cachedInt() {
+        return configManager.getInt("server.port", 0);
+    }
+
+    @Benchmark
+    public Duration parseDurationEachRead() {
+        return Duration.parse(configManager.getValue("server.timeout"));
+    }
+
+    @Benchmark
+    public Duration cachedDuration() {
+        return configManager.getDuration("server.timeout", Duration.ZERO);
+    }
+
+    @Benchmark
+    public long parseByteSizeEachRead() {
+        return ValueParserUtil.parseByteSize(configManager.getValue("server.buffer"));
+    }
+
+    @Benchmark
+    public long cachedByteSize() {
+        return configManager.getByteSize("server.buffer", 0);
+    }
+}
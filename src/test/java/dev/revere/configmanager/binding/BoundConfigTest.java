@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.binding;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class BoundConfigTest {
+
+    public record Server(String host, int port) {
+    }
+
+    private ConfigManager configManager;
+    private InMemoryConfigSource source;
+
+    @Before
+    public void setUp() throws IOException {
+        configManager = new ConfigManager();
+        configManager.setListenerExecutor(Runnable::run);
+        source = new InMemoryConfigSource(Map.of("server.host", "localhost", "server.port", "8080"));
+        configManager.addSource(source);
+        configManager.loadConfig();
+    }
+
+    @Test
+    public void testBindsCurrentConfiguration() {
+        try (BoundConfig<Server> bound = configManager.bind("server", Server.class)) {
+            assertEquals(new Server("localhost", 8080), bound.get());
+            assertEquals("server", bound.getNamespace());
+        }
+    }
+
+    @Test
+    public void testRebindsWhenBoundKeyChanges() throws IOException {
+        try (BoundConfig<Server> bound = configManager.bind("server", Server.class)) {
+            source.setNext(Map.of("server.host", "localhost", "server.port", "9090"));
+            configManager.reloadSource(source);
+
+            assertEquals(new Server("localhost", 9090), bound.get());
+            assertEquals(configManager.getSnapshot().getVersion(), bound.getVersion());
+        }
+    }
+
+    @Test
+    public void testIgnoresChangesToUnboundKeys() throws IOException {
+        try (BoundConfig<Server> bound = configManager.bind("server", Server.class)) {
+            Server before = bound.get();
+            source.setNext(Map.of("server.host", "localhost", "server.port", "8080", "server.tls", "true"));
+            configManager.reloadSource(source);
+
+            assertSame(before, bound.get());
+        }
+    }
+
+    @Test
+    public void testClosedBindingStopsFollowingReloads() throws IOException {
+        BoundConfig<Server> bound = configManager.bind("server", Server.class);
+        Server before = bound.get();
+        bound.close();
+        source.setNext(Map.of("server.host", "example.com", "server.port", "8080"));
+        configManager.reloadSource(source);
+
+        assertSame(before, bound.get());
+        assertEquals(new Server("example.com", 8080), configManager.getSnapshot().bind("server", Server.class));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.binding;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ConfigBinderTest {
+
+    public enum Mode { FAST, SAFE }
+
+    public record Credentials(String user, @ConfigProperty(defaultValue = "secret") String password) {
+    }
+
+    public record PoolSettings(String url,
+                               int size,
+                               @ConfigProperty("idle-timeout") Duration idleTimeout,
+                               @ConfigProperty(defaultValue = "true") boolean enabled,
+                               Mode mode,
+                               List<String> hosts,
+                               Long maxLifetime,
+                               Credentials credentials) {
+    }
+
+    public static class MutableSettings {
+        private String name;
+        private double ratio;
+        @ConfigProperty(defaultValue = "7")
+        private int retries;
+        private long timeoutMillis = 2_500;
+        private boolean enabled = true;
+        private String region = "eu-west";
+        private transient String ignored = "untouched";
+        private static String staticField = "static";
+    }
+
+    @Test
+    public void testBindsRecordWithConvertersDefaultsAndNestedRecords() {
+        Map<String, String> values = Map.of(
+                "db.url", "jdbc:h2:mem:",
+                "db.size", "16",
+                "db.idle-timeout", "30s",
+                "db.mode", "safe",
+                "db.hosts", "a, b,c",
+                "db.credentials.user", "admin");
+
+        PoolSettings settings = ConfigBinder.of(PoolSettings.class).bind(values::get, "db");
+
+        assertEquals("jdbc:h2:mem:", settings.url());
+        assertEquals(16, settings.size());
+        assertEquals(Duration.ofSeconds(30), settings.idleTimeout());
+        assertTrue(settings.enabled());
+        assertEquals(Mode.SAFE, settings.mode());
+        assertEquals(List.of("a", "b", "c"), settings.hosts());
+        assertNull(settings.maxLifetime());
+        assertEquals(new Credentials("admin", "secret"), settings.credentials());
+    }
+
+    @Test
+    public void testMissingPrimitiveBindsToZero() {
+        PoolSettings settings = ConfigBinder.of(PoolSettings.class).bind(key -> null, "db.");
+
+        assertEquals(0, settings.size());
+        assertNull(settings.url());
+    }
+
+    @Test
+    public void testMissingFieldsKeepTheirInitializers() {
+        MutableSettings settings = ConfigBinder.of(MutableSettings.class).bind(Map.of("timeoutMillis", "100")::get, "");
+
+        assertEquals(100, settings.timeoutMillis);
+        assertTrue(settings.enabled);
+        assertEquals("eu-west", settings.region);
+        assertEquals(7, settings.retries);
+        assertEquals(0.0, settings.ratio, 0.0);
+    }
+
+    @Test
+    public void testBindsClassFields() {
+        Map<String, String> values = Map.of("name", "primary", "ratio", "0.5", "ignored", "changed");
+
+        MutableSettings settings = ConfigBinder.of(MutableSettings.class).bind(values::get, "");
+
+        assertEquals("primary", settings.name);
+        assertEquals(0.5, settings.ratio, 0.0);
+        assertEquals(7, settings.retries);
+        assertEquals("untouched", settings.ignored);
+        assertEquals("static", MutableSettings.staticField);
+    }
+
+    @Test
+    public void testKeysIncludeNestedRecords() {
+        List<String> keys = ConfigBinder.of(PoolSettings.class).getKeys();
+
+        assertTrue(keys.contains("idle-timeout"));
+        assertTrue(keys.contains("credentials.user"));
+        assertTrue(keys.contains("credentials.password"));
+        assertFalse(keys.contains("credentials"));
+        assertFalse(keys.contains("idleTimeout"));
+    }
+
+    @Test
+    public void testBinderIsCachedPerType() {
+        assertSame(ConfigBinder.of(PoolSettings.class), ConfigBinder.of(PoolSettings.class));
+    }
+
+    @Test
+    public void testInvalidValueNamesKey() {
+        Map<String, String> values = Map.of("db.size", "many");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ConfigBinder.of(PoolSettings.class).bind(values::get, "db"));
+        assertTrue(exception.getMessage().contains("db.size"));
+    }
+
+    @Test
+    public void testUnsupportedTypeIsRejected() {
+        record Unsupported(Object value) {
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> ConfigBinder.of(Unsupported.class));
+    }
+}
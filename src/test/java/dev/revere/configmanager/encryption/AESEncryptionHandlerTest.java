@@ -25,7 +25,14 @@ package dev.revere.configmanager.encryption;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
 /**
  * @author Remi
@@ -44,4 +51,40 @@ public class AESEncryptionHandlerTest {
 
         assertEquals(plainText, decryptedText);
     }
+
+    @Test
+    public void testDecryptionAcrossThreads() throws Exception {
+        String plainText = "Grüße, World!";
+        String encryptedText = encryptionHandler.encrypt(plainText);
+
+        for (ExecutorService executor : List.of(Executors.newFixedThreadPool(8), Executors.newVirtualThreadPerTaskExecutor())) {
+            try (executor) {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    results.add(executor.submit(() -> encryptionHandler.decrypt(encryptedText)));
+                }
+                for (Future<String> result : results) {
+                    assertEquals(plainText, result.get());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDecryptsUnpaddedCipherText() throws Exception {
+        for (String plainText : new String[]{"Hello, World!", "x", "exactly 16 bytes"}) {
+            String padded = encryptionHandler.encrypt(plainText);
+            String unpadded = padded.replace("=", "");
+            assertEquals(plainText, encryptionHandler.decrypt(unpadded));
+        }
+        assertThrows(IllegalArgumentException.class, () -> encryptionHandler.decrypt("AAAAA"));
+        assertThrows(IllegalArgumentException.class, () -> encryptionHandler.decrypt("AAAAAA="));
+    }
+
+    @Test
+    public void testRejectsMalformedCipherText() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> encryptionHandler.decrypt("not*base64"));
+        assertThrows(Exception.class, () -> encryptionHandler.decrypt("AAAAAAAAAAAAAAAAAAAAAA=="));
+        assertEquals("Hello", encryptionHandler.decrypt(encryptionHandler.encrypt("Hello")));
+    }
 }
\ No newline at end of file
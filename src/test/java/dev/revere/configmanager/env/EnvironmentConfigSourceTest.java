@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.env;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class EnvironmentConfigSourceTest {
+
+    @Test
+    public void testRelaxedKeyMapping() {
+        assertEquals("db.pool.size", EnvironmentConfigSource.toPropertyKey("DB_POOL_SIZE"));
+        assertEquals("db.pool.max-idle", EnvironmentConfigSource.toPropertyKey("DB_POOL_MAX__IDLE"));
+        assertEquals("DB_POOL_SIZE", EnvironmentConfigSource.toVariableName("db.pool.size"));
+        assertEquals("DB_POOL_MAX__IDLE", EnvironmentConfigSource.toVariableName("db.pool.max-idle"));
+    }
+
+    @Test
+    public void testLoadMapsVariablesOnce() {
+        Map<String, String> environment = new HashMap<>(Map.of("DB_HOST", "db.internal", "db_host", "ignored",
+                "PATH", "/usr/bin"));
+        EnvironmentConfigSource source = new EnvironmentConfigSource("", () -> environment);
+        source.load();
+
+        assertEquals("db.internal", source.getValue("db.host"));
+        assertEquals("/usr/bin", source.getValue("path"));
+        assertNull(source.getValue("DB_HOST"));
+
+        environment.put("DB_PORT", "5432");
+        assertNull(source.getValue("db.port"));
+        source.load();
+        assertEquals("5432", source.getValue("db.port"));
+    }
+
+    @Test
+    public void testPrefixIsStripped() {
+        EnvironmentConfigSource source = new EnvironmentConfigSource("APP_",
+                () -> Map.of("APP_DB_HOST", "db.internal", "APP_", "empty", "HOME", "/root"));
+        source.load();
+
+        assertEquals(Map.of("db.host", "db.internal"), source.getValues());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.env;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class SystemPropertiesConfigSourceTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty("configtest.db.host");
+        System.clearProperty("configtest.db.port");
+    }
+
+    @Test
+    public void testPropertiesAreCopiedOnLoad() {
+        System.setProperty("configtest.db.host", "db.internal");
+        SystemPropertiesConfigSource source = new SystemPropertiesConfigSource("configtest.");
+        source.load();
+
+        assertEquals(Map.of("db.host", "db.internal"), source.getValues());
+
+        System.setProperty("configtest.db.port", "5432");
+        assertNull(source.getValue("db.port"));
+        source.load();
+        assertEquals("5432", source.getValue("db.port"));
+    }
+
+    @Test
+    public void testWithoutPrefixExposesEveryProperty() {
+        SystemPropertiesConfigSource source = new SystemPropertiesConfigSource();
+        source.load();
+
+        assertEquals(System.getProperty("java.version"), source.getValue("java.version"));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.event;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ListenerRegistryTest {
+    private final ListenerRegistry registry = new ListenerRegistry();
+
+    @Test
+    public void testBatchesChangesPerSubscription() throws InterruptedException {
+        BlockingQueue<ConfigChangeEvent> redis = new LinkedBlockingQueue<>();
+        BlockingQueue<ConfigChangeEvent> host = new LinkedBlockingQueue<>();
+        BlockingQueue<ConfigChangeEvent> all = new LinkedBlockingQueue<>();
+        registry.subscribePrefix("cache.redis.", redis::add);
+        registry.subscribe("cache.redis.host", host::add);
+        registry.subscribePrefix("", all::add);
+
+        Map<String, String> before = Map.of("cache.redis.host", "a", "cache.redis.port", "1", "cache.redisson", "x");
+        Map<String, String> after = Map.of("cache.redis.host", "b", "cache.redis.timeout", "5s", "cache.redisson", "y");
+        registry.dispatch(before::get, after::get,
+                Set.of("cache.redis.host", "cache.redis.port", "cache.redis.timeout", "cache.redisson"), true);
+
+        ConfigChangeEvent redisEvent = redis.poll(5, TimeUnit.SECONDS);
+        assertNotNull(redisEvent);
+        assertEquals(3, redisEvent.changes().size());
+        assertTrue(redisEvent.getChange("cache.redis.port").isRemoved());
+        assertTrue(redisEvent.getChange("cache.redis.timeout").isAdded());
+        assertNull(redisEvent.getChange("cache.redisson"));
+
+        ConfigChangeEvent hostEvent = host.poll(5, TimeUnit.SECONDS);
+        assertEquals(List.of(new ConfigChange("cache.redis.host", "a", "b")), hostEvent.changes());
+        assertEquals(4, all.poll(5, TimeUnit.SECONDS).changes().size());
+        assertNull(redis.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSlowListenerDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<String> slow = new LinkedBlockingQueue<>();
+        BlockingQueue<String> fast = new LinkedBlockingQueue<>();
+        registry.subscribe("key", event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            slow.add(event.changes().get(0).newValue());
+        });
+        registry.subscribe("key", event -> fast.add(event.changes().get(0).newValue()));
+
+        for (int i = 1; i <= 3; i++) {
+            String previous = String.valueOf(i - 1);
+            String current = String.valueOf(i);
+            registry.dispatch(key -> previous, key -> current, Set.of("key"), true);
+        }
+        assertEquals("1", fast.poll(5, TimeUnit.SECONDS));
+        assertEquals("2", fast.poll(5, TimeUnit.SECONDS));
+        assertEquals("3", fast.poll(5, TimeUnit.SECONDS));
+        assertTrue(slow.isEmpty());
+
+        release.countDown();
+        assertEquals("1", slow.poll(5, TimeUnit.SECONDS));
+        assertEquals("2", slow.poll(5, TimeUnit.SECONDS));
+        assertEquals("3", slow.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testClosedSubscriptionIsNotNotified() throws InterruptedException {
+        BlockingQueue<ConfigChangeEvent> events = new LinkedBlockingQueue<>();
+        registry.setExecutor(Runnable::run);
+        Subscription subscription = registry.subscribe("key", events::add);
+        registry.dispatch(key -> null, key -> "1", Set.of(), false);
+        assertEquals(1, events.size());
+
+        subscription.close();
+        assertTrue(registry.isEmpty());
+        registry.dispatch(key -> "1", key -> "2", Set.of("key"), true);
+        assertEquals(1, events.size());
+    }
+}
@@ -31,6 +31,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 
 /**
  * @author Remi
@@ -54,4 +56,34 @@ public class JsonConfigSourceTest {
         jsonConfigSource.load();
         assertEquals("value", jsonConfigSource.getValue("key"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLoadFlattensNestedDocument() throws IOException {
+        File tempFile = File.createTempFile("config", ".json");
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("{ \"db\": { \"pool\": { \"size\": 10, \"enabled\": true }, \"url\": null },"
+                    + " \"servers\": [ { \"host\": \"a\" }, { \"host\": \"b\", \"ports\": [80, 443] } ],"
+                    + " \"flat.key\": \"value\" }");
+        }
+        JsonConfigSource source = new JsonConfigSource(tempFile);
+        source.load();
+
+        assertEquals("10", source.getValue("db.pool.size"));
+        assertEquals("true", source.getValue("db.pool.enabled"));
+        assertFalse(source.getValues().containsKey("db.url"));
+        assertEquals("a", source.getValue("servers[0].host"));
+        assertEquals("b", source.getValue("servers[1].host"));
+        assertEquals("443", source.getValue("servers[1].ports[1]"));
+        assertEquals("value", source.getValue("flat.key"));
+        assertEquals(7, source.getValues().size());
+    }
+
+    @Test
+    public void testLoadRejectsTopLevelArray() throws IOException {
+        File tempFile = File.createTempFile("config", ".json");
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("[1, 2]");
+        }
+        assertThrows(IOException.class, () -> new JsonConfigSource(tempFile).load());
+    }
+}
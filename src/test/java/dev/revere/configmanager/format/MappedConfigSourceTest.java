@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.format;
+
+import dev.revere.configmanager.ConfigManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class MappedConfigSourceTest {
+    private final Map<String, String> values = new HashMap<>();
+    private File compiled;
+    private MappedConfigSource mappedConfigSource;
+
+    @Before
+    public void setUp() throws IOException {
+        for (int i = 0; i < 1_000; i++) {
+            values.put("key" + i, "value" + i);
+        }
+        values.put("grüße", "héllo");
+        values.put("empty", "");
+
+        compiled = File.createTempFile("config", ".bin");
+        BinaryConfigCompiler.compile(values, compiled);
+        mappedConfigSource = new MappedConfigSource(compiled);
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        mappedConfigSource.load();
+        assertEquals("value42", mappedConfigSource.getValue("key42"));
+        assertEquals("héllo", mappedConfigSource.getValue("grüße"));
+        assertEquals("", mappedConfigSource.getValue("empty"));
+        assertNull(mappedConfigSource.getValue("key1000"));
+        assertNull(mappedConfigSource.getValue("key"));
+        assertEquals(values, mappedConfigSource.decodeValues());
+    }
+
+    @Test
+    public void testManagerQueriesMappingWithoutDecodingFile() throws IOException {
+        for (ConfigManager.LookupMode mode : ConfigManager.LookupMode.values()) {
+            ConfigManager configManager = new ConfigManager(mode);
+            configManager.addSource(mappedConfigSource);
+            configManager.loadConfig();
+
+            assertThrows(mode.name(), UnsupportedOperationException.class, mappedConfigSource::getValues);
+            assertEquals(mode.name(), "value42", configManager.getValue("key42"));
+            assertNull(mode.name(), configManager.getValue("key1000"));
+        }
+
+        mappedConfigSource.setEnumerable(true);
+        assertEquals(values, mappedConfigSource.getValues());
+    }
+
+    @Test
+    public void testRecompilingReplacesMappedFile() throws IOException {
+        mappedConfigSource.load();
+        BinaryConfigCompiler.compile(Map.of("key42", "changed"), compiled);
+
+        assertEquals("value42", mappedConfigSource.getValue("key42"));
+        assertEquals("value7", mappedConfigSource.getValue("key7"));
+        mappedConfigSource.load();
+        assertEquals("changed", mappedConfigSource.getValue("key42"));
+        assertNull(mappedConfigSource.getValue("key7"));
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        File json = File.createTempFile("config", ".json");
+        Files.writeString(json.toPath(), "{ \"key\": \"value\" }");
+        assertThrows(IOException.class, () -> new MappedConfigSource(json).load());
+    }
+}
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 /**
  * @author Remi
@@ -39,11 +40,12 @@ import static org.junit.Assert.assertEquals;
  * @date 8/19/2024
  */
 public class PropertiesConfigSourceTest {
+    private File tempFile;
     private PropertiesConfigSource propertiesConfigSource;
 
     @Before
     public void setUp() throws IOException {
-        File tempFile = File.createTempFile("config", ".properties");
+        tempFile = File.createTempFile("config", ".properties");
         Properties props = new Properties();
         props.setProperty("key", "value");
         try (FileWriter writer = new FileWriter(tempFile)) {
@@ -57,4 +59,16 @@ public class PropertiesConfigSourceTest {
         propertiesConfigSource.load();
         assertEquals("value", propertiesConfigSource.getValue("key"));
     }
+
+    @Test
+    public void testReloadDropsRemovedKeys() throws IOException {
+        propertiesConfigSource.load();
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("other=value2");
+        }
+        propertiesConfigSource.load();
+
+        assertNull(propertiesConfigSource.getValue("key"));
+        assertEquals("value2", propertiesConfigSource.getValue("other"));
+    }
 }
\ No newline at end of file
@@ -25,12 +25,17 @@ package dev.revere.configmanager.format;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.yaml.snakeyaml.LoaderOptions;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Remi
@@ -54,4 +59,107 @@ public class YamlConfigSourceTest {
         yamlConfigSource.load();
         assertEquals("value", yamlConfigSource.getValue("key"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLoadFlattensNestedDocument() throws IOException {
+        YamlConfigSource source = load("""
+                db:
+                  pool:
+                    size: 10
+                  url: ~
+                servers:
+                  - host: a
+                  - host: b
+                    ports: [80, 443]
+                """);
+
+        assertEquals("10", source.getValue("db.pool.size"));
+        assertFalse(source.getValues().containsKey("db.url"));
+        assertEquals("a", source.getValue("servers[0].host"));
+        assertEquals("443", source.getValue("servers[1].ports[1]"));
+        assertEquals(5, source.getValues().size());
+    }
+
+    @Test
+    public void testLoadResolvesAliasesAndMergeKeys() throws IOException {
+        YamlConfigSource source = load("""
+                defaults: &defaults
+                  timeout: 30s
+                  retries: 3
+                region: &region eu-west-1
+                primary:
+                  <<: *defaults
+                  retries: 5
+                  region: *region
+                replica:
+                  copy: *defaults
+                """);
+
+        assertEquals("30s", source.getValue("primary.timeout"));
+        assertEquals("5", source.getValue("primary.retries"));
+        assertEquals("eu-west-1", source.getValue("primary.region"));
+        assertEquals("3", source.getValue("replica.copy.retries"));
+        assertFalse(source.getValues().containsKey("primary.<<"));
+    }
+
+    @Test
+    public void testLoadRejectsNestedAliasBombs() {
+        IOException expanded = assertThrows(IOException.class, () -> load(aliasBomb(6)));
+        assertTrue(expanded.getMessage(), expanded.getMessage().contains("expand"));
+
+        StringBuilder flat = new StringBuilder("defaults: &defaults {timeout: 30s}\n");
+        for (int i = 0; i < 51; i++) {
+            flat.append("service").append(i).append(": *defaults\n");
+        }
+        IOException aliased = assertThrows(IOException.class, () -> load(flat.toString()));
+        assertTrue(aliased.getMessage(), aliased.getMessage().contains("max=50"));
+    }
+
+    @Test
+    public void testLoadHonoursAliasLimit() throws IOException {
+        File tempFile = File.createTempFile("config", ".yaml");
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("""
+                    defaults: &defaults
+                      timeout: 30s
+                    primary: *defaults
+                    replica: *defaults
+                    """);
+        }
+        LoaderOptions options = new LoaderOptions();
+        options.setMaxAliasesForCollections(1);
+        YamlConfigSource source = new YamlConfigSource(tempFile, options);
+
+        IOException exception = assertThrows(IOException.class, source::load);
+        assertTrue(exception.getMessage(), exception.getMessage().contains("max=1"));
+    }
+
+    @Test
+    public void testLoadEmptyDocument() throws IOException {
+        assertTrue(load("").getValues().isEmpty());
+    }
+
+    /**
+     * Builds a document whose first sequence holds nine scalars and every further sequence nine aliases to the
+     * previous one.
+     */
+    private static String aliasBomb(int levels) {
+        StringBuilder document = new StringBuilder("l0: &l0 [a, a, a, a, a, a, a, a, a]\n");
+        for (int level = 1; level < levels; level++) {
+            String alias = "*l" + (level - 1);
+            document.append('l').append(level).append(": &l").append(level).append(" [")
+                    .append(String.join(", ", Collections.nCopies(9, alias))).append("]\n");
+        }
+        return document.toString();
+    }
+
+    private static YamlConfigSource load(String content) throws IOException {
+        File tempFile = File.createTempFile("config", ".yaml");
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write(content);
+        }
+        YamlConfigSource source = new YamlConfigSource(tempFile);
+        source.load();
+        return source;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.metrics;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.encryption.ConfigEncryptor;
+import dev.revere.configmanager.encryption.EncryptedValueResolver;
+import dev.revere.configmanager.validation.ConfigValidator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class CounterMetricsTest {
+    private static final String SECRET_KEY = "ErrIFtuvOm/kGowL/rgu22sQeHzITNVr/TXs4mLpLFQ="; // random key for testing
+
+    @Test
+    public void testRecordsLookupsAndServingSource() throws IOException {
+        ConfigSource first = new InMemoryConfigSource(Map.of("shared", "first"));
+        ConfigSource second = new InMemoryConfigSource(Map.of("onlySecond", "second"));
+        ConfigManager manager = new ConfigManager();
+        manager.addSource(first);
+        manager.addSource(second);
+        manager.loadConfig();
+        CounterMetrics metrics = new CounterMetrics();
+        manager.setMetrics(metrics);
+
+        manager.getValue("shared");
+        manager.getValue("onlySecond");
+        manager.getValue("onlySecond");
+        manager.getValue("missing");
+
+        assertEquals(4, metrics.getLookups());
+        assertEquals(3, metrics.getHits());
+        assertEquals(0.25, metrics.getMissRatio(), 1e-9);
+        assertEquals(Map.of(first, 1L, second, 2L), metrics.getSourceHits());
+
+        manager.setMetrics(null);
+        manager.getValue("shared");
+        assertEquals(4, metrics.getLookups());
+    }
+
+    @Test
+    public void testRecordsServingSourceInIndexedMode() throws IOException {
+        ConfigSource first = new InMemoryConfigSource(Map.of("shared", "first"));
+        ConfigSource second = new InMemoryConfigSource(Map.of("shared", "second", "onlySecond", "second"));
+        ConfigManager manager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        manager.addSource(first);
+        manager.addSource(second);
+        manager.loadConfig();
+        CounterMetrics metrics = new CounterMetrics();
+        manager.setMetrics(metrics);
+
+        manager.getValue("shared");
+        manager.getValue("onlySecond");
+        manager.getValue("missing");
+
+        assertEquals(3, metrics.getLookups());
+        assertEquals(Map.of(first, 1L, second, 1L), metrics.getSourceHits());
+    }
+
+    @Test
+    public void testRecordsLoadsValidationsAndDecrypts() throws Exception {
+        ConfigEncryptor encryptor = new ConfigEncryptor(SECRET_KEY);
+        ConfigSource source = new InMemoryConfigSource(Map.of(
+                "db.password", EncryptedValueResolver.wrap(encryptor.encryptConfigValue("hunter2")),
+                "db.port", "5432"));
+        CounterMetrics metrics = new CounterMetrics(true);
+        ConfigManager manager = new ConfigManager();
+        manager.setMetrics(metrics);
+        manager.addSource(source);
+        manager.setValidator(new ConfigValidator(Map.of("db.port", "integer")));
+        manager.setEncryptor(encryptor);
+        manager.loadConfig();
+
+        assertEquals("hunter2", manager.getValue("db.password"));
+        assertEquals(1, metrics.getLoads());
+        assertNotNull(metrics.getLastLoadDuration(source));
+        assertEquals(1, metrics.getDecrypts());
+        assertEquals(1, metrics.getValidations());
+        assertEquals(0, metrics.getViolations());
+        assertEquals(1, metrics.getPublishes());
+        assertEquals(1, metrics.getLoadLatency().getCount());
+        assertEquals(1, metrics.getPublishLatency().getCount());
+        assertEquals(0, metrics.getMisses());
+    }
+
+    @Test
+    public void testRecordsFailedLoads() {
+        CounterMetrics metrics = new CounterMetrics();
+        ConfigManager manager = new ConfigManager();
+        manager.setMetrics(metrics);
+        manager.addSource(new FailingConfigSource());
+
+        assertThrows(IOException.class, manager::loadConfig);
+        assertEquals(1, metrics.getLoads());
+        assertEquals(1, metrics.getLoadFailures());
+        assertNull(metrics.getLoadLatency());
+    }
+
+    private static class FailingConfigSource implements ConfigSource {
+        @Override
+        public void load() throws IOException {
+            throw new IOException("Simulated failure");
+        }
+
+        @Override
+        public String getValue(String key) {
+            return null;
+        }
+    }
+}
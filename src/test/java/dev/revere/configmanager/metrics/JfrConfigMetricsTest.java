@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.metrics;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.InMemoryConfigSource;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class JfrConfigMetricsTest {
+
+    @Test
+    public void testEmitsEvents() throws IOException {
+        ConfigManager manager = new ConfigManager();
+        manager.setMetrics(new JfrConfigMetrics());
+        manager.addSource(new InMemoryConfigSource(Map.of("key", "value")));
+
+        Path file = Files.createTempFile("config", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dev.revere.config.Load");
+            recording.enable("dev.revere.config.Publish");
+            recording.enable("dev.revere.config.Lookup");
+            recording.start();
+            manager.loadConfig();
+            manager.getValue("key");
+            manager.getValue("missing");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertEquals(1, count(events, "dev.revere.config.Load"));
+        assertEquals(1, count(events, "dev.revere.config.Publish"));
+        List<RecordedEvent> lookups = events.stream()
+                .filter(event -> event.getEventType().getName().equals("dev.revere.config.Lookup"))
+                .toList();
+        assertEquals(2, lookups.size());
+        assertTrue(lookups.stream().anyMatch(event -> event.getBoolean("hit")));
+        assertTrue(lookups.stream().anyMatch(event -> !event.getBoolean("hit")));
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+}
@@ -24,12 +24,28 @@
 package dev.revere.configmanager.profile;
 
 import dev.revere.configmanager.ConfigSource;
+import dev.revere.configmanager.InMemoryConfigSource;
+import dev.revere.configmanager.event.ConfigChangeEvent;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Remi
@@ -52,6 +68,205 @@ public class ProfileManagerTest {
         assertEquals("prodConfigValue", profileManager.getProfileValue("key"));
     }
 
+    @Test
+    public void testActivateProfileNotifiesSubscribers() throws IOException {
+        List<ConfigChangeEvent> events = new ArrayList<>();
+        profileManager.setListenerExecutor(Runnable::run);
+        profileManager.subscribe("key", events::add);
+
+        profileManager.activateProfile("dev");
+        profileManager.activateProfile("prod");
+        profileManager.activateProfile("prod");
+
+        assertEquals(2, events.size());
+        assertEquals("devConfigValue", events.get(1).getChange("key").oldValue());
+        assertEquals("prodConfigValue", events.get(1).getChange("key").newValue());
+    }
+
+    @Test
+    public void testActivateProfileStack() throws IOException {
+        profileManager.addProfile("base", new InMemoryConfigSource(Map.of("key", "base", "region", "us", "pool", "8")));
+        profileManager.addProfile("eu", new InMemoryConfigSource(Map.of("region", "eu")));
+        profileManager.addProfile("canary", new InMemoryConfigSource(Map.of("pool", "1", "flag", "on")));
+
+        profileManager.activateProfiles("base", "eu", "canary");
+        assertEquals(List.of("base", "eu", "canary"), profileManager.getActiveProfiles());
+        assertEquals("base", profileManager.getProfileValue("key"));
+        assertEquals("eu", profileManager.getProfileValue("region"));
+        assertEquals("1", profileManager.getProfileValue("pool"));
+        assertEquals("on", profileManager.getProfileValue("flag"));
+        assertNull(profileManager.getProfileValue("missing"));
+
+        profileManager.activateProfiles("base", "prod", "eu");
+        assertEquals("prodConfigValue", profileManager.getProfileValue("key"));
+        assertEquals("eu", profileManager.getProfileValue("region"));
+        assertEquals("8", profileManager.getProfileValue("pool"));
+    }
+
+    @Test
+    public void testReactivationReusesLoadedProfile() throws IOException {
+        InMemoryConfigSource base = new InMemoryConfigSource(Map.of("key", "base"));
+        profileManager.addProfile("base", base);
+
+        profileManager.activateProfile("base");
+        profileManager.activateProfile("prod");
+        profileManager.activateProfiles("base", "prod");
+        profileManager.activateProfile("base");
+        assertEquals(1, base.getLoadCount());
+
+        profileManager.reloadProfile("base");
+        assertEquals(2, base.getLoadCount());
+        assertEquals("base", profileManager.getProfileValue("key"));
+    }
+
+    @Test
+    public void testReloadActiveProfileNotifiesSubscribers() throws IOException {
+        InMemoryConfigSource base = new InMemoryConfigSource(Map.of("key", "old"));
+        profileManager.addProfile("base", base);
+        List<ConfigChangeEvent> events = new ArrayList<>();
+        profileManager.setListenerExecutor(Runnable::run);
+        profileManager.subscribePrefix("", events::add);
+        profileManager.activateProfile("base");
+
+        base.setNext(Map.of("key", "new"));
+        profileManager.reloadProfile("base");
+
+        assertEquals("new", profileManager.getProfileValue("key"));
+        assertEquals(2, events.size());
+        assertEquals("old", events.get(1).getChange("key").oldValue());
+    }
+
+    @Test
+    public void testActivateUnknownProfileKeepsActiveStack() throws IOException {
+        profileManager.activateProfile("dev");
+        assertThrows(IllegalArgumentException.class, () -> profileManager.activateProfiles("dev", "missing"));
+        assertEquals(List.of("dev"), profileManager.getActiveProfiles());
+        assertEquals("devConfigValue", profileManager.getProfileValue("key"));
+    }
+
+    @Test
+    public void testContextDoesNotChangeActiveProfiles() throws IOException {
+        profileManager.activateProfile("dev");
+        ProfileContext prod = profileManager.context("dev", "prod");
+
+        assertEquals("prodConfigValue", prod.getValue("key"));
+        assertEquals(List.of("dev", "prod"), prod.getProfiles());
+        assertSame(prod, profileManager.context("dev", "prod"));
+        assertEquals("devConfigValue", profileManager.getProfileValue("key"));
+    }
+
+    @Test
+    public void testRunWithProfilesBindsContextToThread() throws Exception {
+        profileManager.activateProfile("dev");
+        ProfileContext prod = profileManager.context("prod");
+
+        String value = profileManager.callWithProfiles(prod, () -> {
+            profileManager.runWithProfiles(profileManager.context("dev"),
+                    () -> assertEquals("devConfigValue", profileManager.getProfileValue("key")));
+            return profileManager.getProfileValue("key");
+        });
+
+        assertEquals("prodConfigValue", value);
+        assertEquals("devConfigValue", profileManager.getProfileValue("key"));
+    }
+
+    @Test
+    public void testContextCacheEvictsOldestStacks() throws IOException {
+        profileManager.setMaxCachedContexts(2);
+        ProfileContext dev = profileManager.context("dev");
+        ProfileContext prod = profileManager.context("prod");
+        ProfileContext both = profileManager.context("dev", "prod");
+
+        assertSame(both, profileManager.context("dev", "prod"));
+        assertSame(prod, profileManager.context("prod"));
+        assertNotSame(dev, profileManager.context("dev"));
+        assertEquals("devConfigValue", profileManager.context("dev").getValue("key"));
+    }
+
+    @Test
+    public void testContextCacheKeepsRecentlyUsedStacks() throws IOException {
+        profileManager.setMaxCachedContexts(2);
+        ProfileContext dev = profileManager.context("dev");
+        ProfileContext prod = profileManager.context("prod");
+        assertSame(dev, profileManager.context("dev"));
+
+        profileManager.context("dev", "prod");
+        assertSame(dev, profileManager.context("dev"));
+        assertNotSame(prod, profileManager.context("prod"));
+    }
+
+    @Test
+    public void testConcurrentContextsLoadProfileOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        profileManager.addProfile("slow", new ConfigSource() {
+            @Override
+            public void load() {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public String getValue(String key) {
+                return "key".equals(key) ? "slow" : null;
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ProfileContext> first = executor.submit(() -> profileManager.context("slow"));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<ProfileContext> second = executor.submit(() -> profileManager.context("slow", "dev"));
+            assertEquals("devConfigValue", profileManager.context("dev").getValue("key"));
+
+            release.countDown();
+            assertEquals("slow", first.get(5, TimeUnit.SECONDS).getValue("key"));
+            assertEquals("devConfigValue", second.get(5, TimeUnit.SECONDS).getValue("key"));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testContextIsStaleAfterReload() throws IOException {
+        InMemoryConfigSource base = new InMemoryConfigSource(Map.of("key", "old"));
+        profileManager.addProfile("base", base);
+        ProfileContext before = profileManager.context("base");
+
+        base.setNext(Map.of("key", "new"));
+        profileManager.reloadProfile("base");
+
+        assertEquals("old", before.getValue("key"));
+        assertEquals("new", profileManager.context("base").getValue("key"));
+    }
+
+    @Test
+    public void testConcurrentRequestsResolveOwnProfiles() throws Exception {
+        int tenants = 50;
+        for (int i = 0; i < tenants; i++) {
+            profileManager.addProfile("tenant" + i, new InMemoryConfigSource(Map.of("key", "tenant" + i)));
+        }
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                String tenant = "tenant" + (i % tenants);
+                results.add(executor.submit(() -> profileManager.callWithProfiles(
+                        profileManager.context("prod", tenant),
+                        () -> tenant.equals(profileManager.getProfileValue("key")))));
+            }
+        }
+        for (Future<Boolean> result : results) {
+            assertEquals(true, result.get());
+        }
+        assertEquals(List.of(), profileManager.getActiveProfiles());
+    }
+
     private record MockConfigSource(String value) implements ConfigSource {
 
         @Override
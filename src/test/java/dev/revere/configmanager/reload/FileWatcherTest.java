@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.reload;
+
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.LazyConfigSource;
+import dev.revere.configmanager.format.JsonConfigSource;
+import dev.revere.configmanager.format.PropertiesConfigSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class FileWatcherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File jsonFile;
+    private File propertiesFile;
+    private ConfigManager configManager;
+    private FileWatcher fileWatcher;
+
+    @Before
+    public void setUp() throws IOException {
+        jsonFile = new File(folder.getRoot(), "config.json");
+        propertiesFile = new File(folder.getRoot(), "config.properties");
+        Files.writeString(jsonFile.toPath(), "{ \"key\": \"value\" }");
+        Files.writeString(propertiesFile.toPath(), "other=value");
+
+        configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        configManager.addSource(new JsonConfigSource(jsonFile));
+        configManager.addSource(new LazyConfigSource(new PropertiesConfigSource(propertiesFile)));
+        configManager.loadConfig();
+        configManager.warmUp().join();
+
+        fileWatcher = new FileWatcher(configManager, Duration.ofMillis(50));
+        fileWatcher.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileWatcher.close();
+    }
+
+    @Test
+    public void testReloadsChangedFile() throws Exception {
+        CountDownLatch reloaded = new CountDownLatch(1);
+        configManager.subscribe("key", event -> reloaded.countDown());
+
+        Files.writeString(jsonFile.toPath(), "{ \"key\": \"partial\"");
+        Files.writeString(jsonFile.toPath(), "{ \"key\": \"updated\" }");
+
+        assertTrue(reloaded.await(10, TimeUnit.SECONDS));
+        fileWatcher.close();
+        assertEquals("updated", configManager.getValue("key"));
+        assertEquals("value", configManager.getValue("other"));
+        // Both writes usually fall into one debounce window, but a slow machine may reload in between.
+        assertTrue(fileWatcher.getReloadCount() >= 1);
+        assertNotNull(fileWatcher.getLastReloadLatency());
+    }
+
+    @Test
+    public void testReloadsFileBehindLazySource() throws Exception {
+        CountDownLatch reloaded = new CountDownLatch(1);
+        configManager.subscribe("other", event -> reloaded.countDown());
+
+        Files.writeString(propertiesFile.toPath(), "other=updated");
+
+        assertTrue(reloaded.await(10, TimeUnit.SECONDS));
+        assertEquals("updated", configManager.getValue("other"));
+        assertEquals("value", configManager.getValue("key"));
+    }
+}
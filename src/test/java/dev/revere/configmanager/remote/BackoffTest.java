@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.remote;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class BackoffTest {
+
+    @Test
+    public void testDelaysGrowWithJitterUpToMaximum() {
+        Backoff backoff = new Backoff(Duration.ofMillis(100), Duration.ofMillis(1_000));
+        long ceiling = 100;
+        for (int i = 0; i < 10; i++) {
+            long delay = backoff.nextDelayMillis();
+            assertTrue("Delay " + delay + " outside of ceiling " + ceiling, delay >= ceiling / 2 && delay <= ceiling);
+            ceiling = Math.min(1_000, ceiling * 2);
+        }
+    }
+
+    @Test
+    public void testResetRestartsFromInitialDelay() {
+        Backoff backoff = new Backoff(Duration.ofMillis(100), Duration.ofSeconds(10));
+        for (int i = 0; i < 5; i++) {
+            backoff.nextDelayMillis();
+        }
+        backoff.reset();
+        assertTrue(backoff.nextDelayMillis() <= 100);
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.remote;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.revere.configmanager.ConfigManager;
+import dev.revere.configmanager.FallbackConfigSource;
+import dev.revere.configmanager.validation.ConfigValidator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class RemoteConfigSourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StubConfigServer server;
+    private File snapshot;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubConfigServer();
+        snapshot = new File(folder.getRoot(), "remote.json");
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void testConditionalRequestsReuseUnchangedDocument() throws IOException {
+        server.publish("{\"db\": {\"host\": \"db.internal\", \"port\": 5432}}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+
+        source.load();
+        assertEquals("db.internal", source.getValue("db.host"));
+        assertEquals("5432", source.getValue("db.port"));
+        assertEquals("\"v1\"", source.getETag());
+        assertTrue(snapshot.exists());
+
+        source.load();
+        assertEquals(List.of("", "\"v1\""), server.ifNoneMatch);
+        assertEquals(1, server.notModified.get());
+        assertEquals("db.internal", source.getValue("db.host"));
+
+        server.publish("{\"db\": {\"host\": \"db.replica\"}}", "\"v2\"");
+        source.load();
+        assertEquals("db.replica", source.getValue("db.host"));
+        assertNull(source.getValue("db.port"));
+    }
+
+    @Test
+    public void testStartsFromSnapshotWithoutNetwork() throws IOException {
+        server.publish("{\"feature\": {\"enabled\": true}}", "\"v7\"");
+        new RemoteConfigSource(server.uri(), snapshot).load();
+        int requests = server.requests.get();
+        server.stop();
+
+        RemoteConfigSource restarted = new RemoteConfigSource(server.uri(), snapshot);
+        restarted.load();
+
+        assertEquals("true", restarted.getValue("feature.enabled"));
+        assertEquals("\"v7\"", restarted.getETag());
+        assertEquals(requests, server.requests.get());
+        assertThrows(IOException.class, restarted::load);
+        assertEquals("true", restarted.getValue("feature.enabled"));
+    }
+
+    @Test
+    public void testFirstLoadWithoutSnapshotRequiresServer() {
+        server.stop();
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+        source.setRequestTimeout(Duration.ofSeconds(2));
+
+        assertThrows(IOException.class, source::load);
+    }
+
+    @Test
+    public void testLoadAsyncSendsConditionalRequest() throws Exception {
+        server.publish("{\"key\": \"value\"}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+        Executor executor = Runnable::run;
+
+        source.loadAsync(executor).get(5, TimeUnit.SECONDS);
+        assertEquals("value", source.getValue("key"));
+        assertTrue(snapshot.exists());
+
+        server.publish("{\"key\": \"changed\"}", "\"v2\"");
+        source.loadAsync(executor).get(5, TimeUnit.SECONDS);
+        source.loadAsync(executor).get(5, TimeUnit.SECONDS);
+        assertEquals("changed", source.getValue("key"));
+        assertEquals(List.of("", "\"v1\"", "\"v2\""), server.ifNoneMatch);
+
+        server.failing = true;
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> source.loadAsync(executor).get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    public void testCorruptSnapshotFallsBackToServer() throws IOException {
+        Files.writeString(snapshot.toPath(), "{not json");
+        server.publish("{\"key\": \"value\"}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+
+        source.load();
+
+        assertEquals("value", source.getValue("key"));
+        assertEquals("{\"key\": \"value\"}", Files.readString(snapshot.toPath()));
+    }
+
+    @Test
+    public void testWatchAppliesChangesFromLongPoll() throws Exception {
+        server.publish("{\"pool\": {\"size\": 8}}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+        source.setPollWait(Duration.ofSeconds(5));
+        ConfigManager configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        configManager.addSource(source);
+        configManager.loadConfig();
+
+        try (source) {
+            source.watch(configManager);
+            Thread.sleep(300);
+            assertTrue("Polls were not held open: " + server.requests.get(), server.requests.get() <= 2);
+
+            server.publish("{\"pool\": {\"size\": 16}}", "\"v2\"");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!"16".equals(configManager.getValue("pool.size")) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("16", configManager.getValue("pool.size"));
+            assertEquals(0, source.getFailureCount());
+        }
+    }
+
+    @Test
+    public void testWatchReloadsThroughFallbackWrapper() throws Exception {
+        server.publish("{\"pool\": {\"size\": 8}}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+        source.setPollWait(Duration.ofSeconds(5));
+        ConfigManager configManager = new ConfigManager();
+        configManager.addSource(new FallbackConfigSource(source, new RemoteConfigSource(server.uri(), null)));
+        configManager.loadConfig();
+
+        try (source) {
+            source.watch(configManager);
+            server.publish("{\"pool\": {\"size\": 16}}", "\"v2\"");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!"16".equals(configManager.getValue("pool.size")) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("16", configManager.getValue("pool.size"));
+            assertEquals(0, source.getFailureCount());
+        }
+    }
+
+    @Test
+    public void testRejectedDocumentIsNotAcknowledged() throws Exception {
+        server.publish("{\"pool\": {\"size\": 8}}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), snapshot);
+        source.setPollWait(Duration.ofSeconds(5));
+        source.setBackoff(Duration.ofMillis(20), Duration.ofMillis(100));
+        ConfigManager configManager = new ConfigManager(ConfigManager.LookupMode.INDEXED);
+        configManager.addSource(source);
+        configManager.loadConfig();
+        configManager.setValidator(new ConfigValidator(Map.of("pool.size", "integer")));
+
+        try (source) {
+            source.watch(configManager);
+            server.publish("{\"pool\": {\"size\": \"many\"}}", "\"v2\"");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (source.getFailureCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(source.getFailureCount() >= 2);
+            assertEquals("8", configManager.getValue("pool.size"));
+            assertEquals("{\"pool\": {\"size\": 8}}", Files.readString(snapshot.toPath()));
+            assertEquals(0, server.notModified.get());
+
+            server.publish("{\"pool\": {\"size\": 16}}", "\"v3\"");
+            while (!server.ifNoneMatch.contains("\"v3\"") && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("16", configManager.getValue("pool.size"));
+            assertEquals("{\"pool\": {\"size\": 16}}", Files.readString(snapshot.toPath()));
+        }
+    }
+
+    @Test
+    public void testServerErrorFailsLoad() throws IOException {
+        server.publish("{\"key\": \"value\"}", "\"v1\"");
+        RemoteConfigSource source = new RemoteConfigSource(server.uri(), null);
+        source.load();
+        server.failing = true;
+
+        IOException exception = assertThrows(IOException.class, source::load);
+        assertTrue(exception.getMessage().contains("500"));
+        assertEquals("value", source.getValue("key"));
+    }
+
+    /**
+     * An in-process configuration server that supports conditional requests and holds polls open until the
+     * document changes.
+     */
+    private static class StubConfigServer {
+        private final HttpServer httpServer;
+        private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger notModified = new AtomicInteger();
+        private volatile String body = "{}";
+        private volatile String etag = "\"empty\"";
+        private volatile boolean failing;
+
+        StubConfigServer() throws IOException {
+            httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            httpServer.createContext("/config", this::handle);
+            httpServer.start();
+        }
+
+        URI uri() {
+            return URI.create("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/config");
+        }
+
+        synchronized void publish(String body, String etag) {
+            this.body = body;
+            this.etag = etag;
+            notifyAll();
+        }
+
+        void stop() {
+            httpServer.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            requests.incrementAndGet();
+            String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatch.add(condition != null ? condition : "");
+            if (failing) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            String prefer = exchange.getRequestHeaders().getFirst("Prefer");
+            if (condition != null && prefer != null && prefer.startsWith("wait=")) {
+                awaitChange(condition, Long.parseLong(prefer.substring(5)));
+            }
+            if (etag.equals(condition)) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(content);
+            }
+        }
+
+        private synchronized void awaitChange(String condition, long seconds) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            try {
+                while (etag.equals(condition) && System.nanoTime() < deadline) {
+                    TimeUnit.NANOSECONDS.timedWait(this, deadline - System.nanoTime());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
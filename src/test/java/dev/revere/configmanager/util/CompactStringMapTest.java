@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class CompactStringMapTest {
+
+    @Test
+    public void testLoadFactorStaysAtMostTwoThirds() {
+        Map<String, String> source = new HashMap<>();
+        for (int i = 1; i <= 1_000; i++) {
+            source.put("key" + i, "value" + i);
+            int capacity = CompactStringMap.copyOf(source, null).capacity();
+            assertTrue("count " + i + " in " + capacity + " slots", i * 3 <= capacity * 2);
+            assertTrue("count " + i + " in " + capacity + " slots", capacity == 2 || i * 3 > capacity);
+        }
+    }
+
+    @Test
+    public void testCopyOf() {
+        Map<String, String> source = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            source.put("key" + i, "value" + i);
+        }
+        source.put("missing", null);
+
+        CompactStringMap map = CompactStringMap.copyOf(source, null);
+        source.remove("missing");
+        assertEquals(source, map);
+        assertEquals(source.hashCode(), map.hashCode());
+        assertEquals("value500", map.get("key500"));
+        assertTrue(map.containsKey("key999"));
+        assertFalse(map.containsKey("missing"));
+        assertNull(map.get("key1000"));
+        assertNull(map.get(42));
+    }
+
+    @Test
+    public void testCopyOfEmpty() {
+        CompactStringMap map = CompactStringMap.copyOf(Map.of(), null);
+        assertTrue(map.isEmpty());
+        assertNull(map.get("key"));
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    public void testCopyOfDeduplicatesStrings() {
+        StringPool pool = new StringPool();
+        CompactStringMap first = CompactStringMap.copyOf(Map.of(new String("port"), new String("8080")), pool);
+        CompactStringMap second = CompactStringMap.copyOf(Map.of(new String("port"), new String("8080")), pool);
+
+        assertSame(first.get("port"), second.get("port"));
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        CompactStringMap.copyOf(Map.of("key", "value"), null).put("other", "value");
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class ValueParserUtilTest {
+    @Test
+    public void testParseDuration() {
+        assertEquals(Duration.ofSeconds(30), ValueParserUtil.parseDuration("PT30S"));
+        assertEquals(Duration.ofMillis(250), ValueParserUtil.parseDuration("250"));
+        assertEquals(Duration.ofMillis(250), ValueParserUtil.parseDuration("250ms"));
+        assertEquals(Duration.ofMinutes(5), ValueParserUtil.parseDuration(" 5m "));
+        assertEquals(Duration.ofDays(2), ValueParserUtil.parseDuration("2d"));
+        assertThrows(IllegalArgumentException.class, () -> ValueParserUtil.parseDuration("5 weeks"));
+    }
+
+    @Test
+    public void testParseByteSize() {
+        assertEquals(512L, ValueParserUtil.parseByteSize("512"));
+        assertEquals(1024L, ValueParserUtil.parseByteSize("1KB"));
+        assertEquals(2L << 30, ValueParserUtil.parseByteSize("2GiB"));
+        assertThrows(IllegalArgumentException.class, () -> ValueParserUtil.parseByteSize("10XB"));
+        assertThrows(IllegalArgumentException.class, () -> ValueParserUtil.parseByteSize(Long.MAX_VALUE + "TB"));
+    }
+
+    @Test
+    public void testParseBooleanAndList() {
+        assertFalse(ValueParserUtil.parseBoolean("False"));
+        assertThrows(IllegalArgumentException.class, () -> ValueParserUtil.parseBoolean("yes"));
+        assertEquals(List.of("a", "b"), ValueParserUtil.parseList(" a ,, b,"));
+        assertEquals(List.of(), ValueParserUtil.parseList(""));
+    }
+}
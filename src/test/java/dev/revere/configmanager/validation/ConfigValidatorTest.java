@@ -28,6 +28,7 @@ import org.junit.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -56,4 +57,18 @@ public class ConfigValidatorTest {
         assertTrue(validator.validate(validConfig));
         assertFalse(validator.validate(invalidConfig));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindViolations() {
+        Map<String, String> schema = new HashMap<>();
+        schema.put("age", "integer(0..150)");
+        schema.put("name", "string");
+        ConfigValidator validator = new ConfigValidator(schema);
+
+        Map<String, String> config = new HashMap<>();
+        config.put("age", "200");
+
+        assertEquals(2, validator.findViolations(config).size());
+        assertFalse(validator.validate(config));
+    }
+}
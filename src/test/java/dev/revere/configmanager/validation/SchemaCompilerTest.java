@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Revere Development
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.revere.configmanager.validation;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Remi
+ * @project java-config-system
+ * @date 10/18/2026
+ */
+public class SchemaCompilerTest {
+
+    @Test
+    public void testIntegerRules() {
+        ValueRule digits = SchemaCompiler.compileRule("integer");
+        assertNull(digits.check("123456789012345678901234567890"));
+        assertNotNull(digits.check("-1"));
+        assertNotNull(digits.check(""));
+
+        ValueRule port = SchemaCompiler.compileRule("integer(0..65535)");
+        assertNull(port.check("8080"));
+        assertNull(port.check(" 0 "));
+        assertNotNull(port.check("65536"));
+        assertNotNull(port.check("-1"));
+        assertNotNull(port.check("80a"));
+
+        ValueRule signed = SchemaCompiler.compileRule("long(..0)");
+        assertNull(signed.check("-9223372036854775808"));
+        assertNotNull(signed.check("-9223372036854775809"));
+        assertNotNull(signed.check("1"));
+        assertNull(SchemaCompiler.compileRule("long").check("9223372036854775807"));
+        assertNotNull(SchemaCompiler.compileRule("long").check("9223372036854775808"));
+    }
+
+    @Test
+    public void testOtherTypes() {
+        assertNull(SchemaCompiler.compileRule("double(0..1)").check("0.25"));
+        assertNotNull(SchemaCompiler.compileRule("double(0..1)").check("1.5"));
+        assertNull(SchemaCompiler.compileRule("boolean").check("TRUE"));
+        assertNotNull(SchemaCompiler.compileRule("boolean").check("yes"));
+        assertNull(SchemaCompiler.compileRule("duration(1s..1h)").check("30s"));
+        assertNotNull(SchemaCompiler.compileRule("duration(1s..1h)").check("2h"));
+        assertNull(SchemaCompiler.compileRule("bytes(..1MB)").check("512KB"));
+        assertNotNull(SchemaCompiler.compileRule("bytes(..1MB)").check("2MB"));
+        assertNull(SchemaCompiler.compileRule("enum(DEBUG, INFO)").check("info"));
+        assertNotNull(SchemaCompiler.compileRule("enum(DEBUG, INFO)").check("TRACE"));
+        assertNull(SchemaCompiler.compileRule("pattern([a-z]+(,[a-z]+)*)").check("a,bc"));
+        assertNotNull(SchemaCompiler.compileRule("pattern([a-z]+(,[a-z]+)*)").check("a,"));
+        assertNull(SchemaCompiler.compileRule("string").check("anything"));
+    }
+
+    @Test
+    public void testPlanReportsAllViolations() {
+        ValidationPlan plan = SchemaCompiler.compile(Map.of(
+                "port", "integer(1..65535)",
+                "host", "string",
+                "debug", "boolean",
+                "level", "enum(INFO,WARN)"));
+
+        List<Violation> violations = plan.validate(Map.of("port", "0", "debug", "maybe", "level", "WARN"));
+        assertEquals(3, violations.size());
+        assertEquals("debug", violations.get(0).key());
+        assertEquals("host", violations.get(1).key());
+        assertNull(violations.get(1).value());
+        assertEquals("port", violations.get(2).key());
+
+        assertTrue(plan.validate(Map.of("port", "443", "host", "h", "debug", "false", "level", "info")).isEmpty());
+    }
+
+    @Test
+    public void testRejectsMalformedSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> SchemaCompiler.compile(Map.of("a", "integer(1-2)")));
+        assertThrows(IllegalArgumentException.class, () -> SchemaCompiler.compile(Map.of("a", "enum")));
+        assertThrows(IllegalArgumentException.class, () -> SchemaCompiler.compile(Map.of("a", "pattern([)")));
+        assertThrows(IllegalArgumentException.class, () -> SchemaCompiler.compile(Map.of("a", "long(1..2")));
+    }
+}